@@ -0,0 +1,73 @@
+package com.leon.saintsdragons.server.entity.ability;
+
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
+import com.leon.saintsdragons.common.registry.ModAbilities;
+import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of getting an ability instance to start, per use. Read gc.alloc.rate.norm (B/op) from the
+ * gc profiler alongside the time.
+ * <ul>
+ *   <li>{@code freshInstance}: makeInstance on every use, as before pooling.</li>
+ *   <li>{@code freshInstanceWithRandom}: the same plus the java.util.Random each instance used to
+ *   allocate, i.e. the full pre-pooling cost.</li>
+ *   <li>{@code pooledLookup}: the per-dragon slot lookup DragonEntity#getAbilityInstance does now.</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AbilityPoolBenchmark {
+
+    @Param({"bite", "horn_gore", "lightning_beam", "roar"})
+    public String ability;
+
+    private LightningDragonEntity dragon;
+    private DragonAbilityType<LightningDragonEntity, ?> type;
+    private DragonAbility<?>[] slots;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        // Harness first: it bootstraps the game before any entity or ability class initializes
+        dragon = AbilityHarness.fakeUser(LightningDragonEntity.class, 42L);
+        ModAbilities.BITE.getName(); // registers the mod's ability types
+        type = (DragonAbilityType<LightningDragonEntity, ?>) AbilityRegistry.get(ability);
+        slots = new DragonAbility<?>[AbilityRegistry.getId(type) + 1];
+        slots[AbilityRegistry.getId(type)] = type.makeInstance(dragon);
+    }
+
+    @Benchmark
+    public DragonAbility<?> freshInstance() {
+        return type.makeInstance(dragon);
+    }
+
+    @Benchmark
+    public void freshInstanceWithRandom(Blackhole bh) {
+        bh.consume(type.makeInstance(dragon));
+        bh.consume(new Random());
+    }
+
+    @Benchmark
+    public DragonAbility<?> pooledLookup() {
+        int id = AbilityRegistry.getId(type);
+        DragonAbility<?> instance = slots[id];
+        if (instance == null) {
+            instance = type.makeInstance(dragon);
+            slots[id] = instance;
+        }
+        return instance;
+    }
+}
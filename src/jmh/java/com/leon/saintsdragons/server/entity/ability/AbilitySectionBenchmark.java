@@ -0,0 +1,56 @@
+package com.leon.saintsdragons.server.entity.ability;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.leon.saintsdragons.server.entity.ability.AbilityHarness.duration;
+import static com.leon.saintsdragons.server.entity.ability.DragonAbilitySection.AbilitySectionType.ACTIVE;
+import static com.leon.saintsdragons.server.entity.ability.DragonAbilitySection.AbilitySectionType.RECOVERY;
+import static com.leon.saintsdragons.server.entity.ability.DragonAbilitySection.AbilitySectionType.STARTUP;
+
+/**
+ * One DragonAbility.tick() on a STARTUP 20 / ACTIVE 40 / RECOVERY 20 track, restarting the
+ * pooled instance whenever it completes, with {@code cuesPerSection} cues spread over each
+ * section. Measures section stepping and cue dispatch on their own (the scripted ability does
+ * no work of its own).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AbilitySectionBenchmark {
+
+    @Param({"0", "4", "16"})
+    public int cuesPerSection;
+
+    private ScriptedAbility ability;
+
+    @Setup
+    public void setUp() {
+        ability = AbilityHarness.scripted(0,
+                withCues(duration(STARTUP, 20), 20),
+                withCues(duration(ACTIVE, 40), 40),
+                withCues(duration(RECOVERY, 20), 20));
+    }
+
+    private DragonAbilitySection withCues(DragonAbilitySection section, int length) {
+        for (int i = 0; i < cuesPerSection; i++) {
+            section.cue(i * length / cuesPerSection, i);
+        }
+        return section;
+    }
+
+    @Benchmark
+    public int step() {
+        if (!ability.isUsing()) ability.start();
+        ability.tick();
+        return ability.ticksUsing;
+    }
+}
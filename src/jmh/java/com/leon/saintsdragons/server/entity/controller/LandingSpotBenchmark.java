@@ -0,0 +1,210 @@
+package com.leon.saintsdragons.server.entity.controller;
+
+import com.leon.saintsdragons.server.ai.navigation.DragonTerrainColumns;
+import net.minecraft.core.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Landing spot search over synthetic 64x64 terrain, centred on the middle column.
+ * <ul>
+ *   <li>forest: rolling ground under scattered leaf canopies (canopy columns are rejected).</li>
+ *   <li>mountain: steep noisy heights, so most candidates fail the roughness check.</li>
+ *   <li>ocean: open water with a small island seven blocks off.</li>
+ * </ul>
+ * {@code cachedColumns} is the current search over a {@link DragonTerrainColumns.ColumnSource}.
+ * {@code legacyProbes} is the old ring/vertical probe search (isFlatEnough, surfaceYAt) ported
+ * onto the same terrain. Its block reads are array lookups here rather than getBlockState plus
+ * collision shapes, so its figure is a lower bound on the in-game cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LandingSpotBenchmark {
+    private static final int SIZE = 64;
+
+    @Param({"forest", "mountain", "ocean"})
+    public String terrain;
+
+    private Terrain world;
+    private BlockPos center;
+
+    @Setup
+    public void setUp() {
+        world = switch (terrain) {
+            case "forest" -> Terrain.forest(new Random(1L));
+            case "mountain" -> Terrain.mountain(new Random(2L));
+            case "ocean" -> Terrain.ocean();
+            default -> throw new IllegalArgumentException(terrain);
+        };
+        int mid = SIZE / 2;
+        int y = terrain.equals("ocean") ? 66 : world.ground[Terrain.index(mid, mid)] + 3;
+        center = new BlockPos(mid, y, mid);
+    }
+
+    @Benchmark
+    public BlockPos cachedColumns() {
+        return DragonFlightController.findSafeLandingSpot(world, center);
+    }
+
+    @Benchmark
+    public BlockPos legacyProbes() {
+        for (int r = 2; r <= 10; r += 2) {
+            for (int step = 0; step < 16; step++) {
+                double ang = (Math.PI * 2.0) * (step / 16.0);
+                int x = center.getX() + (int) Math.round(Math.cos(ang) * r);
+                int z = center.getZ() + (int) Math.round(Math.sin(ang) * r);
+                int startY = center.getY() + 6;
+                int minY = center.getY() - 8;
+                for (int y = startY; y >= minY; y--) {
+                    boolean solidBelow = world.solid(x, y - 1, z);
+                    boolean freeAt = !world.solid(x, y, z);
+                    boolean fluidOk = !world.fluid(x, y, z);
+                    if (solidBelow && freeAt && fluidOk && legacyFlatEnough(x, y, z)) {
+                        return new BlockPos(x, y, z);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean legacyFlatEnough(int x, int y, int z) {
+        int[] dx = {1, -1, 0, 0};
+        int[] dz = {0, 0, 1, -1};
+        for (int i = 0; i < 4; i++) {
+            int nx = x + dx[i];
+            int nz = z + dz[i];
+            int ny = legacySurfaceYAt(nx, y, nz);
+            if (Math.abs(ny - y) > 1) return false;
+            if (world.fluid(nx, ny - 1, nz)) return false;
+        }
+        return true;
+    }
+
+    private int legacySurfaceYAt(int x, int y, int z) {
+        for (int dy = 0; dy <= 6; dy++) {
+            int py = y - dy;
+            if (world.solid(x, py - 1, z) && !world.solid(x, py, z)) return py;
+        }
+        return y;
+    }
+
+    /**
+     * Column terrain with a block view for the legacy search: solid below {@code ground}, optional
+     * leaf band {@code [leafMin, leafMax)} and water {@code [ground, waterTop)}.
+     */
+    private static final class Terrain implements DragonTerrainColumns.ColumnSource {
+        final int[] ground = new int[SIZE * SIZE];
+        final int[] leafMin = new int[SIZE * SIZE];
+        final int[] leafMax = new int[SIZE * SIZE];
+        final int[] waterTop = new int[SIZE * SIZE];
+        final int[] surface = new int[SIZE * SIZE];
+        final byte[] flags = new byte[SIZE * SIZE];
+
+        static int index(int x, int z) {
+            return z * SIZE + x;
+        }
+
+        static boolean inside(int x, int z) {
+            return x >= 0 && z >= 0 && x < SIZE && z < SIZE;
+        }
+
+        static Terrain forest(Random random) {
+            Terrain t = new Terrain();
+            for (int z = 0; z < SIZE; z++) {
+                for (int x = 0; x < SIZE; x++) {
+                    t.ground[index(x, z)] = 64 + ((x / 6 + z / 9) & 1);
+                }
+            }
+            for (int tree = 0; tree < 45; tree++) {
+                int tx = random.nextInt(SIZE);
+                int tz = random.nextInt(SIZE);
+                for (int z = tz - 2; z <= tz + 2; z++) {
+                    for (int x = tx - 2; x <= tx + 2; x++) {
+                        if (!inside(x, z)) continue;
+                        int i = index(x, z);
+                        t.leafMin[i] = t.ground[index(tx, tz)] + 4;
+                        t.leafMax[i] = t.leafMin[i] + 2;
+                    }
+                }
+            }
+            return t.finish();
+        }
+
+        static Terrain mountain(Random random) {
+            Terrain t = new Terrain();
+            for (int z = 0; z < SIZE; z++) {
+                for (int x = 0; x < SIZE; x++) {
+                    double h = 12.0 * Math.sin(x * 0.35) * Math.cos(z * 0.27);
+                    t.ground[index(x, z)] = 70 + (int) Math.round(h) + random.nextInt(3);
+                }
+            }
+            return t.finish();
+        }
+
+        static Terrain ocean() {
+            Terrain t = new Terrain();
+            int ix = SIZE / 2 + 7, iz = SIZE / 2 + 3;
+            for (int z = 0; z < SIZE; z++) {
+                for (int x = 0; x < SIZE; x++) {
+                    int i = index(x, z);
+                    int d2 = (x - ix) * (x - ix) + (z - iz) * (z - iz);
+                    if (d2 <= 16) {
+                        t.ground[i] = d2 <= 4 ? 65 : 64;
+                    } else {
+                        t.ground[i] = 52;
+                        t.waterTop[i] = 63;
+                    }
+                }
+            }
+            return t.finish();
+        }
+
+        Terrain finish() {
+            for (int i = 0; i < SIZE * SIZE; i++) {
+                if (leafMax[i] > 0) {
+                    surface[i] = leafMax[i];
+                    flags[i] = DragonTerrainColumns.FLAG_LEAVES;
+                } else if (waterTop[i] > ground[i]) {
+                    surface[i] = waterTop[i];
+                    flags[i] = DragonTerrainColumns.FLAG_FLUID;
+                } else {
+                    surface[i] = ground[i];
+                }
+            }
+            return this;
+        }
+
+        boolean solid(int x, int y, int z) {
+            if (!inside(x, z)) return false;
+            int i = index(x, z);
+            return y < ground[i] || (y >= leafMin[i] && y < leafMax[i]);
+        }
+
+        boolean fluid(int x, int y, int z) {
+            if (!inside(x, z)) return false;
+            int i = index(x, z);
+            return y >= ground[i] && y < waterTop[i];
+        }
+
+        @Override
+        public int surfaceY(int x, int z) {
+            return inside(x, z) ? surface[index(x, z)] : DragonTerrainColumns.UNKNOWN;
+        }
+
+        @Override
+        public byte flags(int x, int z) {
+            return inside(x, z) ? flags[index(x, z)] : 0;
+        }
+    }
+}
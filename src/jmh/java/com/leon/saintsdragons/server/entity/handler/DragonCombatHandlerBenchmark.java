@@ -0,0 +1,75 @@
+package com.leon.saintsdragons.server.entity.handler;
+
+import com.leon.saintsdragons.server.entity.ability.AbilityHarness;
+import com.leon.saintsdragons.server.entity.ability.DragonAbility;
+import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
+import com.leon.saintsdragons.server.entity.ability.ScriptedAbility;
+import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One server tick of DragonCombatHandler with {@code abilities} registered ability types: the
+ * game clock advances, the dragon tries the next ability in turn whenever the handler is idle,
+ * and the handler ticks the active one and applies cooldowns. The dragon is a stub-only mock
+ * whose pooled instances are looked up by type, as DragonEntity#getAbilityInstance does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DragonCombatHandlerBenchmark {
+
+    @Param({"1", "8", "32"})
+    public int abilities;
+
+    private DragonCombatHandler handler;
+    private List<DragonAbilityType<LivingEntity, ScriptedAbility>> types;
+    private long gameTime;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        LightningDragonEntity dragon = AbilityHarness.fakeUser(LightningDragonEntity.class, 42L);
+        Level level = Mockito.mock(Level.class, Mockito.withSettings().stubOnly());
+        Mockito.when(level.getGameTime()).thenAnswer(inv -> gameTime);
+        Mockito.when(dragon.level()).thenReturn(level);
+
+        types = AbilityHarness.registeredTypes(abilities);
+        Map<DragonAbilityType<?, ?>, DragonAbility<?>> pool = new IdentityHashMap<>();
+        for (DragonAbilityType<LivingEntity, ScriptedAbility> type : types) {
+            pool.put(type, type.makeInstance(dragon));
+        }
+        Mockito.doAnswer(inv -> pool.get(inv.getArgument(0)))
+                .when(dragon).getAbilityInstance(Mockito.any());
+
+        handler = new DragonCombatHandler(dragon);
+    }
+
+    @Benchmark
+    public DragonAbility<?> tick() {
+        gameTime++;
+        if (handler.getActiveAbility() == null) {
+            DragonAbilityType<LivingEntity, ScriptedAbility> type = types.get(next);
+            if (handler.canStart(type)) {
+                handler.tryUseAbility(type);
+                next = next + 1 == types.size() ? 0 : next + 1;
+            }
+        }
+        handler.tick();
+        return handler.getActiveAbility();
+    }
+}
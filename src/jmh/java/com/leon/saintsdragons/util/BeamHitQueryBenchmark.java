@@ -0,0 +1,104 @@
+package com.leon.saintsdragons.util;
+
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Beam hit selection for one LightningBeamAbility tick, old against new, with {@code entities}
+ * player-sized targets scattered around a 32-block beam (about half within reach of it).
+ * <ul>
+ *   <li>{@code steppedQueries}: the old loop, one query box of radius 1.2 per block along the
+ *   beam, each returning a fresh list, de-duplicated through a HashSet.</li>
+ *   <li>{@code broadphaseSegment}: one query over the beam's bounds, filtered by
+ *   {@link DragonMathUtil#segmentIntersectsAABB(Vec3, Vec3, AABB, double)}.</li>
+ * </ul>
+ * The level query is stood in for by a scan over the targets, so both sides pay the same per-query
+ * cost; in game each getEntitiesOfClass also walks entity sections, which favours the single query further.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BeamHitQueryBenchmark {
+    private static final double RADIUS = 1.2;
+    private static final double STEP = 1.0;
+
+    @Param({"0", "10", "100"})
+    public int entities;
+
+    private Vec3 start;
+    private Vec3 end;
+    private Target[] targets;
+
+    // Stand-in for a living entity: identity-hashed, like the HashSet<LivingEntity> in the old loop
+    private static final class Target {
+        final AABB box;
+
+        Target(AABB box) {
+            this.box = box;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        start = new Vec3(0.5, 70.0, 0.5);
+        end = start.add(new Vec3(30.0, -6.0, 10.0).normalize().scale(32.0));
+        Random random = new Random(42L);
+        targets = new Target[entities];
+        for (int i = 0; i < entities; i++) {
+            // Half near the beam core, half anywhere in its bounds grown by 6 blocks
+            double t = random.nextDouble();
+            double spread = i % 2 == 0 ? 1.5 : 6.0;
+            Vec3 p = start.lerp(end, t).add(
+                    (random.nextDouble() * 2 - 1) * spread,
+                    (random.nextDouble() * 2 - 1) * spread,
+                    (random.nextDouble() * 2 - 1) * spread);
+            targets[i] = new Target(new AABB(p.x - 0.3, p.y, p.z - 0.3, p.x + 0.3, p.y + 1.8, p.z + 0.3));
+        }
+    }
+
+    private List<Target> query(AABB area, Predicate<Target> filter) {
+        List<Target> out = new ArrayList<>();
+        for (Target target : targets) {
+            if (target.box.intersects(area) && filter.test(target)) out.add(target);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public int steppedQueries() {
+        Vec3 delta = end.subtract(start);
+        double len = delta.length();
+        Vec3 dir = delta.scale(1.0 / len);
+        HashSet<Target> hitThisBeam = new HashSet<>();
+        for (double d = 0; d <= len; d += STEP) {
+            Vec3 p = start.add(dir.scale(d));
+            AABB aabb = new AABB(p, p).inflate(RADIUS);
+            for (Target target : query(aabb, t -> true)) {
+                hitThisBeam.add(target);
+            }
+        }
+        return hitThisBeam.size();
+    }
+
+    @Benchmark
+    public int broadphaseSegment() {
+        Vec3 delta = end.subtract(start);
+        AABB bounds = new AABB(start, end).inflate(RADIUS);
+        return query(bounds, t -> DragonMathUtil.segmentIntersectsAABB(start, delta, t.box, RADIUS)).size();
+    }
+}
@@ -1,5 +1,7 @@
 package com.leon.saintsdragons.client;
 
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
+import com.leon.saintsdragons.common.registry.ModAbilities;
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
 import com.leon.saintsdragons.common.network.MessageDragonRideInput;
 import com.leon.saintsdragons.common.network.DragonRiderAction;
@@ -68,6 +70,17 @@ public class DragonRideKeybinds {
     );
 
     
+    // Rider input frames: change-only plus keepalive (server treats input as stale after ~15 ticks)
+    private static final int KEEPALIVE_TICKS = 10;
+    // Quantized yaw deadband (~1.4 degrees); server does not steer from yaw, so don't flood on mouse jitter
+    private static final int YAW_DEADBAND = 256;
+    private static short inputSeq = 0;
+    private static int ticksSinceFrame = 0;
+    private static int lastButtons = -1;
+    private static byte lastForward = 0;
+    private static byte lastStrafe = 0;
+    private static short lastYaw = 0;
+
     // State tracking
     private static boolean wasAscendPressed = false;
     private static boolean wasBeamDown = false;
@@ -96,7 +109,11 @@ public class DragonRideKeybinds {
         Minecraft mc = Minecraft.getInstance();
         LocalPlayer player = mc.player;
         
-        if (player == null || player.getVehicle() == null) return;
+        if (player == null || player.getVehicle() == null) {
+            // Force a full frame as soon as we mount again
+            lastButtons = -1;
+            return;
+        }
         
         Entity vehicle = player.getVehicle();
         if (!(vehicle instanceof LightningDragonEntity dragon)) return;
@@ -117,62 +134,78 @@ public class DragonRideKeybinds {
         boolean summonDown = DRAGON_SUMMON.isDown();
         
         // Sample rider movement inputs for server-side ground animation sync
-        float fwd = player.zza;
-        float str = player.xxa;
-        float yaw = player.getYRot();
-
+        int buttons = 0;
         if (dragon.isFlying()) {
-            // Flying controls - send every tick for responsive flight
-            DragonRiderAction action = currentAccelerate ? DragonRiderAction.ACCELERATE : DragonRiderAction.STOP_ACCELERATE;
-            NetworkHandler.INSTANCE.send(PacketDistributor.SERVER.noArg(),
-                    new MessageDragonRideInput(currentAscend, currentDescend, action, null, fwd, str, yaw));
-        } else {
-            // Ground takeoff - only trigger once per key press
-            if (currentAscend && !wasAscendPressed) {
-                // Request takeoff from ground
-                NetworkHandler.INSTANCE.send(PacketDistributor.SERVER.noArg(),
-                        new MessageDragonRideInput(false, false, DragonRiderAction.TAKEOFF_REQUEST, null, fwd, str, yaw));
-            }
-            // Ground acceleration - send every tick to handle both press and release
-            DragonRiderAction groundAction = currentAccelerate ? DragonRiderAction.ACCELERATE : DragonRiderAction.STOP_ACCELERATE;
-            NetworkHandler.INSTANCE.send(PacketDistributor.SERVER.noArg(),
-                    new MessageDragonRideInput(false, false, groundAction, null, fwd, str, yaw));
-            // Also send a lightweight NONE action frame to ensure server always receives current inputs
-            NetworkHandler.INSTANCE.send(PacketDistributor.SERVER.noArg(),
-                    new MessageDragonRideInput(false, false, DragonRiderAction.NONE, null, fwd, str, yaw));
+            if (currentAscend) buttons |= MessageDragonRideInput.BUTTON_ASCEND;
+            if (currentDescend) buttons |= MessageDragonRideInput.BUTTON_DESCEND;
+        }
+        if (currentAccelerate) buttons |= MessageDragonRideInput.BUTTON_ACCELERATE;
+        byte fwd = MessageDragonRideInput.quantizeAxis(player.zza);
+        byte str = MessageDragonRideInput.quantizeAxis(player.xxa);
+        short yaw = MessageDragonRideInput.quantizeYaw(player.getYRot());
+
+        boolean sentThisTick = false;
+
+        // Ground takeoff - only trigger once per key press
+        if (!dragon.isFlying() && currentAscend && !wasAscendPressed) {
+            sendFrame(buttons, fwd, str, yaw, DragonRiderAction.TAKEOFF_REQUEST, -1);
+            sentThisTick = true;
         }
 
         // Handle hold-to-fire beam start/stop (send transitions only)
         // Start on press
         if (beamDown && !wasBeamDown) {
-            NetworkHandler.INSTANCE.send(PacketDistributor.SERVER.noArg(),
-                    new MessageDragonRideInput(false, false, DragonRiderAction.ABILITY_USE, "lightning_beam", fwd, str, yaw));
+            sendFrame(buttons, fwd, str, yaw, DragonRiderAction.ABILITY_USE, AbilityRegistry.getNetworkId(ModAbilities.LIGHTNING_BEAM));
+            sentThisTick = true;
         }
         // Stop on release
         if (!beamDown && wasBeamDown) {
-            NetworkHandler.INSTANCE.send(PacketDistributor.SERVER.noArg(),
-                    new MessageDragonRideInput(false, false, DragonRiderAction.ABILITY_STOP, "lightning_beam", fwd, str, yaw));
+            sendFrame(buttons, fwd, str, yaw, DragonRiderAction.ABILITY_STOP, AbilityRegistry.getNetworkId(ModAbilities.LIGHTNING_BEAM));
+            sentThisTick = true;
         }
 
         // Handle roar as a one-shot on key press
         if (roarDown && !wasRoarDown) {
-            NetworkHandler.INSTANCE.send(PacketDistributor.SERVER.noArg(),
-                    new MessageDragonRideInput(false, false, DragonRiderAction.ABILITY_USE, "roar", fwd, str, yaw));
+            sendFrame(buttons, fwd, str, yaw, DragonRiderAction.ABILITY_USE, AbilityRegistry.getNetworkId(ModAbilities.ROAR));
+            sentThisTick = true;
         }
 
         // Handle summon storm as a one-shot on key press
         if (summonDown && !wasSummonDown) {
-            NetworkHandler.INSTANCE.send(PacketDistributor.SERVER.noArg(),
-                    new MessageDragonRideInput(false, false, DragonRiderAction.ABILITY_USE, "summon_storm", fwd, str, yaw));
+            sendFrame(buttons, fwd, str, yaw, DragonRiderAction.ABILITY_USE, AbilityRegistry.getNetworkId(ModAbilities.SUMMON_STORM));
+            sentThisTick = true;
+        }
+
+        // Plain input frame only when something changed, plus a low-rate keepalive
+        if (!sentThisTick) {
+            ticksSinceFrame++;
+            if (inputChanged(buttons, fwd, str, yaw) || ticksSinceFrame >= KEEPALIVE_TICKS) {
+                sendFrame(buttons, fwd, str, yaw, DragonRiderAction.NONE, -1);
+            }
         }
 
-        
         wasAscendPressed = currentAscend;
         wasBeamDown = beamDown;
         wasRoarDown = roarDown;
         wasSummonDown = summonDown;
     }
     
+    private static boolean inputChanged(int buttons, byte fwd, byte str, short yaw) {
+        return buttons != lastButtons || fwd != lastForward || str != lastStrafe
+                || Math.abs((short) (yaw - lastYaw)) > YAW_DEADBAND;
+    }
+
+    private static void sendFrame(int buttons, byte fwd, byte str, short yaw, DragonRiderAction action, int abilityId) {
+        inputSeq++;
+        NetworkHandler.INSTANCE.send(PacketDistributor.SERVER.noArg(),
+                new MessageDragonRideInput(inputSeq, (byte) buttons, fwd, str, yaw, action, abilityId));
+        lastButtons = buttons;
+        lastForward = fwd;
+        lastStrafe = str;
+        lastYaw = yaw;
+        ticksSinceFrame = 0;
+    }
+
     /**
      * Handle control state system like Ice & Fire dragons
      */
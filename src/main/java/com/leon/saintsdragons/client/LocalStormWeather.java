@@ -0,0 +1,109 @@
+package com.leon.saintsdragons.client;
+
+import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.common.network.MessageStormCells;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.util.Mth;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Client side of the localized storm cells. While the local player is under a cell, the client
+ * level's rain and thunder levels are raised so vanilla renders rain, darkens the sky and plays
+ * rain sounds around the camera; outside every cell they fade back to whatever the server sent.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class LocalStormWeather {
+    private LocalStormWeather() {}
+
+    // Blocks over which the storm fades in at the cell edge
+    private static final float EDGE_FADE = 16.0f;
+    // Per-tick change of the overlay, a little faster than vanilla's 0.01 weather fade
+    private static final float FADE_STEP = 0.02f;
+
+    private static double[] xs = new double[0];
+    private static double[] zs = new double[0];
+    private static float[] radii = new float[0];
+    private static long[] expiresAt = new long[0];
+    private static ClientLevel cellsLevel;
+
+    private static float overlay;
+    private static boolean applied;
+    // Weather the server last set; detected as any value we didn't write ourselves
+    private static float baseRain;
+    private static float baseThunder;
+    private static float writtenRain = Float.NaN;
+    private static float writtenThunder = Float.NaN;
+
+    public static void apply(MessageStormCells msg) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) return;
+        int n = msg.xs().length;
+        long now = level.getGameTime();
+        xs = msg.xs();
+        zs = msg.zs();
+        radii = msg.radii();
+        expiresAt = new long[n];
+        for (int i = 0; i < n; i++) {
+            expiresAt[i] = now + msg.remaining()[i];
+        }
+        cellsLevel = level;
+    }
+
+    /** 0 outside every live cell, ramping to 1 over the outer {@link #EDGE_FADE} blocks. */
+    private static float strengthAt(ClientLevel level, double x, double z) {
+        if (level != cellsLevel) return 0f;
+        long now = level.getGameTime();
+        float best = 0f;
+        for (int i = 0; i < xs.length; i++) {
+            if (now >= expiresAt[i]) continue;
+            double dist = Math.sqrt(Mth.square(x - xs[i]) + Mth.square(z - zs[i]));
+            float s = Mth.clamp((float) (radii[i] - dist) / EDGE_FADE, 0f, 1f);
+            if (s > best) best = s;
+        }
+        return best;
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        Minecraft mc = Minecraft.getInstance();
+        ClientLevel level = mc.level;
+        LocalPlayer player = mc.player;
+        if (level == null || player == null || mc.isPaused()) {
+            if (level == null) {
+                overlay = 0f;
+                applied = false;
+                writtenRain = writtenThunder = Float.NaN;
+            }
+            return;
+        }
+
+        float target = strengthAt(level, player.getX(), player.getZ());
+        if (!applied && target <= 0f) return;
+
+        float rain = level.getRainLevel(1.0f);
+        float thunder = level.getThunderLevel(1.0f);
+        if (rain != writtenRain) baseRain = rain;
+        if (thunder != writtenThunder) baseThunder = thunder;
+
+        overlay = Mth.approach(overlay, target, FADE_STEP);
+        if (overlay <= 0f) {
+            // Fully faded out: hand weather back to the server's values
+            level.setRainLevel(baseRain);
+            level.setThunderLevel(baseThunder);
+            applied = false;
+            writtenRain = writtenThunder = Float.NaN;
+            return;
+        }
+        writtenRain = Math.max(baseRain, overlay);
+        writtenThunder = Math.max(baseThunder, overlay);
+        level.setRainLevel(writtenRain);
+        level.setThunderLevel(writtenThunder);
+        applied = true;
+    }
+}
@@ -1,10 +1,12 @@
 package com.leon.saintsdragons.client.event;
 
 import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
 import net.minecraft.client.Minecraft;
 import net.minecraft.world.entity.Entity;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.ViewportEvent;
 import net.minecraftforge.client.event.RenderLivingEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -29,6 +31,12 @@ public class ClientEventHandler {
         blockedEntityRenders.remove(id);
     }
 
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        // Ability id table is per-server; fall back to local ids until the next login sync
+        AbilityRegistry.clearRemoteTable();
+    }
+
     @SubscribeEvent
     public static void onComputeCamera(ViewportEvent.ComputeCameraAngles event) {
         Entity player = Minecraft.getInstance().getCameraEntity();
@@ -52,4 +60,4 @@ public class ClientEventHandler {
     public static boolean isFirstPersonPlayer(Entity entity) {
         return entity.equals(Minecraft.getInstance().cameraEntity) && Minecraft.getInstance().options.getCameraType().isFirstPerson();
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
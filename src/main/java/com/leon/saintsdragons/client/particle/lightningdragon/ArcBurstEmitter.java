@@ -0,0 +1,111 @@
+package com.leon.saintsdragons.client.particle.lightningdragon;
+
+import com.leon.saintsdragons.common.network.MessageArcBurst;
+import com.leon.saintsdragons.common.particle.lightningdragon.LightningArcData;
+import com.leon.saintsdragons.common.particle.lightningdragon.LightningStormData;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Rebuilds lightning arc polylines locally from a {@link MessageArcBurst}.
+ * Everything random is drawn from the burst seed, so every client sees the same arcs.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class ArcBurstEmitter {
+    private ArcBurstEmitter() {}
+
+    public static void emit(ClientLevel level, MessageArcBurst msg) {
+        RandomSource rnd = RandomSource.create(msg.seed());
+        switch (msg.shape()) {
+            case MessageArcBurst.SHAPE_SEGMENT -> emitArc(level, rnd, msg.from(), msg.to(), msg.particle(), msg.size());
+            case MessageArcBurst.SHAPE_CLUSTER -> emitCluster(level, rnd, msg);
+            case MessageArcBurst.SHAPE_SPARKS -> emitSparks(level, rnd, msg);
+            default -> {}
+        }
+    }
+
+    // Short arcs between two random points inside the body radius (electrocute)
+    private static void emitCluster(ClientLevel level, RandomSource rnd, MessageArcBurst msg) {
+        Vec3 center = msg.from();
+        double radius = msg.radius();
+        for (int i = 0; i < msg.count(); i++) {
+            Vec3 a = randomUnit(rnd).scale(radius * (0.4 + rnd.nextDouble() * 0.6));
+            Vec3 b = randomUnit(rnd).scale(radius * (0.4 + rnd.nextDouble() * 0.6));
+            emitArc(level, rnd, center.add(a), center.add(b), msg.particle(), msg.size());
+        }
+    }
+
+    // Supercharge crackle: very short micro arcs around the chest plus a few vanilla sparks
+    private static void emitSparks(ClientLevel level, RandomSource rnd, MessageArcBurst msg) {
+        Vec3 center = msg.from();
+        double radius = msg.radius();
+        for (int i = 0; i < msg.count(); i++) {
+            Vec3 dir = randomUnit(rnd);
+            double length = 0.4 + rnd.nextDouble() * 0.7; // ~0.4-1.1 blocks
+            Vec3 from = center.add(randomUnit(rnd).scale(radius * 0.35));
+            Vec3 to = from.add(dir.scale(length));
+            float size = msg.size() + rnd.nextFloat() * 0.25f; // smaller sprites
+            int steps = 2 + rnd.nextInt(3); // 2-4 points only
+            emitPolyline(level, rnd, from, to, steps, msg.particle(), size);
+        }
+        double spread = radius * 0.15;
+        for (int i = 0; i < 3; i++) {
+            level.addParticle(ParticleTypes.ELECTRIC_SPARK,
+                    center.x + rnd.nextGaussian() * spread,
+                    center.y + rnd.nextGaussian() * spread,
+                    center.z + rnd.nextGaussian() * spread,
+                    0.0, 0.0, 0.0);
+        }
+    }
+
+    private static void emitArc(ClientLevel level, RandomSource rnd, Vec3 from, Vec3 to, byte particle, float size) {
+        int steps = Math.max(3, (int) (to.subtract(from).length() * 6));
+        emitPolyline(level, rnd, from, to, steps, particle, size);
+    }
+
+    private static void emitPolyline(ClientLevel level, RandomSource rnd, Vec3 from, Vec3 to,
+                                     int steps, byte particle, float size) {
+        Vec3 step = to.subtract(from).scale(1.0 / steps);
+        Vec3 dir = step.lengthSqr() > 1.0e-6 ? step.normalize() : randomUnit(rnd);
+        Vec3 pos = from;
+        for (int i = 0; i <= steps; i++) {
+            ParticleOptions options = pick(rnd, particle, size);
+            if (options != null) {
+                // Jitter along the arc direction; the sprite rolls to face (xd, yd, zd)
+                level.addParticle(options,
+                        pos.x + rnd.nextGaussian() * dir.x,
+                        pos.y + rnd.nextGaussian() * dir.y,
+                        pos.z + rnd.nextGaussian() * dir.z,
+                        dir.x, dir.y, dir.z);
+            }
+            pos = pos.add(step);
+        }
+    }
+
+    private static ParticleOptions pick(RandomSource rnd, byte particle, float size) {
+        return switch (particle) {
+            case MessageArcBurst.PARTICLE_ARC -> new LightningArcData(size);
+            case MessageArcBurst.PARTICLE_MIXED -> {
+                // Randomly drop some points and pick the sprite per point for a crackly feel
+                if (rnd.nextFloat() >= 0.7f) yield null;
+                yield rnd.nextBoolean() ? new LightningArcData(size) : new LightningStormData(size);
+            }
+            default -> new LightningStormData(size);
+        };
+    }
+
+    private static Vec3 randomUnit(RandomSource rnd) {
+        // Uniform random unit vector
+        double u = rnd.nextDouble();
+        double v = rnd.nextDouble();
+        double theta = 2 * Math.PI * u;
+        double z = 2 * v - 1; // [-1,1]
+        double r = Math.sqrt(1 - z * z);
+        return new Vec3(r * Math.cos(theta), z, r * Math.sin(theta));
+    }
+}
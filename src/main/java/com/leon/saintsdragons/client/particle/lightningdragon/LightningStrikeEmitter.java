@@ -0,0 +1,32 @@
+package com.leon.saintsdragons.client.particle.lightningdragon;
+
+import com.leon.saintsdragons.common.network.MessageLightningStrike;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LightningBolt;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Plays a {@link MessageLightningStrike} as a client-only, visual-only lightning bolt. A client-side
+ * bolt renders with the vanilla renderer, flashes the sky and plays thunder/impact through
+ * playLocalSound, so only the receiving player hears it; it removes itself after a few ticks.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class LightningStrikeEmitter {
+    private LightningStrikeEmitter() {}
+
+    // Negative ids never collide with server-assigned entity ids
+    private static int nextLocalId = -1;
+
+    public static void emit(ClientLevel level, MessageLightningStrike msg) {
+        LightningBolt bolt = EntityType.LIGHTNING_BOLT.create(level);
+        if (bolt == null) return;
+        bolt.moveTo(msg.x(), msg.y(), msg.z());
+        bolt.setVisualOnly(true);
+        int id = nextLocalId--;
+        if (nextLocalId == Integer.MIN_VALUE) nextLocalId = -1;
+        bolt.setId(id);
+        level.putNonPlayerEntity(id, bolt);
+    }
+}
@@ -0,0 +1,147 @@
+package com.leon.saintsdragons.common.network;
+
+import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
+import it.unimi.dsi.fastutil.ints.Int2ByteMap;
+import it.unimi.dsi.fastutil.ints.Int2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.network.PacketDistributor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-player outbound aggregator for dragon animation state (server only).
+ * Dragons mark their packed ground/flight state dirty; once per server tick each player
+ * receives a single batch holding only the tracked dragons whose state differs from what
+ * that player was last sent. Tracking start queues a full resync for that dragon.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class DragonAnimStateSync {
+    private DragonAnimStateSync() {}
+
+    private static final byte UNSENT = (byte) -1;
+
+    /** What one player has been sent, keyed by dragon entity id. */
+    private static final class PlayerView {
+        final Int2ByteOpenHashMap lastSent = new Int2ByteOpenHashMap();
+        final IntOpenHashSet pendingResync = new IntOpenHashSet();
+
+        PlayerView() {
+            lastSent.defaultReturnValue(UNSENT);
+        }
+    }
+
+    // Dragons whose state changed this tick -> packed state
+    private static final Int2ByteOpenHashMap DIRTY = new Int2ByteOpenHashMap();
+    private static final Map<UUID, PlayerView> VIEWS = new HashMap<>();
+    private static boolean resyncQueued = false;
+
+    /**
+     * Queue the dragon's current anim state for the end-of-tick flush. Server thread only.
+     */
+    public static void markDirty(LightningDragonEntity dragon, int groundState, int flightMode) {
+        if (dragon.level().isClientSide) return;
+        DIRTY.put(dragon.getId(), MessageDragonAnimStateBatch.pack(groundState, flightMode));
+    }
+
+    private static byte currentState(LightningDragonEntity dragon) {
+        return MessageDragonAnimStateBatch.pack(dragon.getGroundMoveState(), dragon.getSyncedFlightMode());
+    }
+
+    @SubscribeEvent
+    public static void onStartTracking(PlayerEvent.StartTracking event) {
+        if (!(event.getTarget() instanceof LightningDragonEntity dragon)) return;
+        if (!(event.getEntity() instanceof ServerPlayer player)) return;
+        PlayerView view = VIEWS.computeIfAbsent(player.getUUID(), id -> new PlayerView());
+        view.lastSent.put(dragon.getId(), UNSENT);
+        view.pendingResync.add(dragon.getId());
+        resyncQueued = true;
+    }
+
+    @SubscribeEvent
+    public static void onStopTracking(PlayerEvent.StopTracking event) {
+        if (!(event.getTarget() instanceof LightningDragonEntity dragon)) return;
+        PlayerView view = VIEWS.get(event.getEntity().getUUID());
+        if (view == null) return;
+        view.lastSent.remove(dragon.getId());
+        view.pendingResync.remove(dragon.getId());
+    }
+
+    @SubscribeEvent
+    public static void onLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        VIEWS.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        if (DIRTY.isEmpty() && !resyncQueued) return;
+        flush(event.getServer());
+        DIRTY.clear();
+        resyncQueued = false;
+    }
+
+    private static void flush(MinecraftServer server) {
+        IntArrayList ids = new IntArrayList();
+        Iterator<Map.Entry<UUID, PlayerView>> it = VIEWS.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, PlayerView> e = it.next();
+            ServerPlayer player = server.getPlayerList().getPlayer(e.getKey());
+            if (player == null) {
+                it.remove();
+                continue;
+            }
+            PlayerView view = e.getValue();
+            ids.clear();
+
+            // Full resync for newly tracked dragons
+            IntIterator pending = view.pendingResync.iterator();
+            while (pending.hasNext()) {
+                int id = pending.nextInt();
+                byte state;
+                if (DIRTY.containsKey(id)) {
+                    state = DIRTY.get(id);
+                } else if (player.serverLevel().getEntity(id) instanceof LightningDragonEntity dragon) {
+                    state = currentState(dragon);
+                } else {
+                    continue;
+                }
+                view.lastSent.put(id, state);
+                ids.add(id);
+            }
+            view.pendingResync.clear();
+
+            // Delta against what this player last received
+            for (Int2ByteMap.Entry d : DIRTY.int2ByteEntrySet()) {
+                int id = d.getIntKey();
+                if (!view.lastSent.containsKey(id)) continue; // not tracked by this player
+                byte state = d.getByteValue();
+                if (view.lastSent.get(id) == state) continue; // includes dragons just resynced above
+                view.lastSent.put(id, state);
+                ids.add(id);
+            }
+
+            if (ids.isEmpty()) continue;
+            int[] sorted = ids.toIntArray();
+            Arrays.sort(sorted);
+            byte[] states = new byte[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                states[i] = view.lastSent.get(sorted[i]);
+            }
+            NetworkHandler.INSTANCE.send(PacketDistributor.PLAYER.with(() -> player),
+                    new MessageDragonAnimStateBatch(sorted, states));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.leon.saintsdragons.common.network;
+
+import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.network.NetworkEvent;
+import net.minecraftforge.network.PacketDistributor;
+
+import java.util.function.Supplier;
+
+/**
+ * Server -> Client ability id table (names indexed by numeric id), sent once at login so
+ * rider packets can carry ability ids instead of names.
+ */
+public record MessageAbilityIdTable(String[] names) {
+
+    public static void encode(MessageAbilityIdTable msg, FriendlyByteBuf buf) {
+        buf.writeVarInt(msg.names().length);
+        for (String name : msg.names()) {
+            buf.writeUtf(name);
+        }
+    }
+
+    public static MessageAbilityIdTable decode(FriendlyByteBuf buf) {
+        int count = buf.readVarInt();
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = buf.readUtf();
+        }
+        return new MessageAbilityIdTable(names);
+    }
+
+    public static void handle(MessageAbilityIdTable msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> AbilityRegistry.applyRemoteTable(msg.names()));
+        ctx.get().setPacketHandled(true);
+    }
+
+    @Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    public static final class LoginSync {
+        private LoginSync() {}
+
+        @SubscribeEvent
+        public static void onLogin(PlayerEvent.PlayerLoggedInEvent event) {
+            if (event.getEntity() instanceof ServerPlayer player) {
+                NetworkHandler.INSTANCE.send(PacketDistributor.PLAYER.with(() -> player),
+                        new MessageAbilityIdTable(AbilityRegistry.nameTable()));
+            }
+        }
+    }
+}
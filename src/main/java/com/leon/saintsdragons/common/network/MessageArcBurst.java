@@ -0,0 +1,107 @@
+package com.leon.saintsdragons.common.network;
+
+import com.leon.saintsdragons.client.particle.lightningdragon.ArcBurstEmitter;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+import net.minecraftforge.network.PacketDistributor;
+
+import java.util.function.Supplier;
+
+/**
+ * Server -> Client lightning arc burst. Replaces one sendParticles packet per polyline point
+ * with a single message; the client rebuilds the polyline from the seed (see {@link ArcBurstEmitter}).
+ * Segment bursts carry both endpoints; cluster and spark bursts carry a center, radius and arc count.
+ */
+public record MessageArcBurst(byte shape,
+                              byte particle,
+                              float size,
+                              long seed,
+                              Vec3 from,
+                              Vec3 to,
+                              float radius,
+                              int count) {
+
+    // Shapes
+    public static final byte SHAPE_SEGMENT = 0; // one arc from -> to
+    public static final byte SHAPE_CLUSTER = 1; // short arcs between random points inside a sphere
+    public static final byte SHAPE_SPARKS  = 2; // crackly micro arcs plus a few vanilla sparks
+
+    // Particle sprites
+    public static final byte PARTICLE_STORM = 0;
+    public static final byte PARTICLE_ARC   = 1;
+    public static final byte PARTICLE_MIXED = 2; // random per point, some points dropped
+
+    // Same radius vanilla uses for non-forced sendParticles
+    private static final double SEND_RANGE = 32.0;
+
+    public static MessageArcBurst segment(Vec3 from, Vec3 to, byte particle, float size, long seed) {
+        return new MessageArcBurst(SHAPE_SEGMENT, particle, size, seed, from, to, 0f, 1);
+    }
+
+    public static MessageArcBurst cluster(Vec3 center, double radius, int count, byte particle, float size, long seed) {
+        return new MessageArcBurst(SHAPE_CLUSTER, particle, size, seed, center, center, (float) radius, count);
+    }
+
+    public static MessageArcBurst sparks(Vec3 center, double radius, int count, float size, long seed) {
+        return new MessageArcBurst(SHAPE_SPARKS, PARTICLE_MIXED, size, seed, center, center, (float) radius, count);
+    }
+
+    /**
+     * Send to players near the burst (segment midpoint, widened by half its length).
+     */
+    public static void send(ServerLevel level, MessageArcBurst msg) {
+        Vec3 mid = msg.from().add(msg.to()).scale(0.5);
+        double range = SEND_RANGE + msg.from().distanceTo(msg.to()) * 0.5;
+        NetworkHandler.INSTANCE.send(PacketDistributor.NEAR.with(() ->
+                        new PacketDistributor.TargetPoint(mid.x, mid.y, mid.z, range, level.dimension())),
+                msg);
+    }
+
+    public static void encode(MessageArcBurst msg, FriendlyByteBuf buf) {
+        buf.writeByte(msg.shape());
+        buf.writeByte(msg.particle());
+        buf.writeFloat(msg.size());
+        buf.writeLong(msg.seed());
+        buf.writeDouble(msg.from().x);
+        buf.writeDouble(msg.from().y);
+        buf.writeDouble(msg.from().z);
+        if (msg.shape() == SHAPE_SEGMENT) {
+            // Endpoint relative to the start; arcs are short so float precision is plenty
+            buf.writeFloat((float) (msg.to().x - msg.from().x));
+            buf.writeFloat((float) (msg.to().y - msg.from().y));
+            buf.writeFloat((float) (msg.to().z - msg.from().z));
+        } else {
+            buf.writeFloat(msg.radius());
+            buf.writeVarInt(msg.count());
+        }
+    }
+
+    public static MessageArcBurst decode(FriendlyByteBuf buf) {
+        byte shape = buf.readByte();
+        byte particle = buf.readByte();
+        float size = buf.readFloat();
+        long seed = buf.readLong();
+        Vec3 from = new Vec3(buf.readDouble(), buf.readDouble(), buf.readDouble());
+        if (shape == SHAPE_SEGMENT) {
+            Vec3 to = from.add(buf.readFloat(), buf.readFloat(), buf.readFloat());
+            return new MessageArcBurst(shape, particle, size, seed, from, to, 0f, 1);
+        }
+        float radius = buf.readFloat();
+        int count = Math.min(buf.readVarInt(), 64);
+        return new MessageArcBurst(shape, particle, size, seed, from, from, radius, count);
+    }
+
+    public static void handle(MessageArcBurst msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+            var level = Minecraft.getInstance().level;
+            if (level == null) return;
+            ArcBurstEmitter.emit(level, msg);
+        }));
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -0,0 +1,74 @@
+package com.leon.saintsdragons.common.network;
+
+import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.entity.Entity;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Server -> Client batch of dragon animation states for one player, flushed once per server tick.
+ * Entity ids are sorted and written as varint deltas; each state is one packed byte
+ * (bits 0-1 ground state, bits 2-4 flight mode + 1).
+ */
+public record MessageDragonAnimStateBatch(int[] entityIds, byte[] states) {
+
+    public static byte pack(int groundState, int flightMode) {
+        return (byte) ((groundState & 0x3) | (((flightMode + 1) & 0x7) << 2));
+    }
+
+    public static int unpackGround(byte packed) {
+        return packed & 0x3;
+    }
+
+    public static int unpackFlight(byte packed) {
+        return ((packed >> 2) & 0x7) - 1;
+    }
+
+    /**
+     * @param entityIds ascending entity ids; parallel to {@code states}
+     */
+    public static void encode(MessageDragonAnimStateBatch msg, FriendlyByteBuf buf) {
+        int count = msg.entityIds().length;
+        buf.writeVarInt(count);
+        int prev = 0;
+        for (int i = 0; i < count; i++) {
+            int id = msg.entityIds()[i];
+            buf.writeVarInt(id - prev);
+            buf.writeByte(msg.states()[i]);
+            prev = id;
+        }
+    }
+
+    public static MessageDragonAnimStateBatch decode(FriendlyByteBuf buf) {
+        int count = buf.readVarInt();
+        int[] ids = new int[count];
+        byte[] states = new byte[count];
+        int prev = 0;
+        for (int i = 0; i < count; i++) {
+            prev += buf.readVarInt();
+            ids[i] = prev;
+            states[i] = buf.readByte();
+        }
+        return new MessageDragonAnimStateBatch(ids, states);
+    }
+
+    public static void handle(MessageDragonAnimStateBatch msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+            var level = Minecraft.getInstance().level;
+            if (level == null) return;
+            for (int i = 0; i < msg.entityIds().length; i++) {
+                Entity e = level.getEntity(msg.entityIds()[i]);
+                if (e instanceof LightningDragonEntity dragon) {
+                    byte packed = msg.states()[i];
+                    dragon.applyClientAnimState(unpackGround(packed), unpackFlight(packed));
+                }
+            }
+        }));
+        ctx.get().setPacketHandled(true);
+    }
+}
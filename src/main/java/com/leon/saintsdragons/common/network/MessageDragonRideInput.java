@@ -1,75 +1,128 @@
 package com.leon.saintsdragons.common.network;
 
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraftforge.network.NetworkEvent;
 
 import java.util.function.Supplier;
 
-public record MessageDragonRideInput(boolean goingUp,
-                                     boolean goingDown,
+/**
+ * Compact rider input frame. Sent only when input changes, when a one-shot action fires,
+ * and as a low-rate keepalive. Wire layout: seq (short), buttons (byte), forward/strafe
+ * (byte each, quantized to 1/127), yaw (short, 1/65536 turn), action (byte), then the
+ * numeric ability id (varint, see {@link AbilityRegistry}) only for ability actions.
+ */
+public record MessageDragonRideInput(short seq,
+                                     byte buttons,
+                                     byte forward,
+                                     byte strafe,
+                                     short yaw,
                                      DragonRiderAction action,
-                                     String abilityName,
-                                     float forward,
-                                     float strafe,
-                                     float yaw) {
+                                     int abilityId) {
 
-    public boolean hasAbilityName() {
-        return abilityName != null && !abilityName.isEmpty();
+    // Button bits
+    public static final int BUTTON_ASCEND = 1;
+    public static final int BUTTON_DESCEND = 1 << 1;
+    public static final int BUTTON_ACCELERATE = 1 << 2;
+
+    private static final DragonRiderAction[] ACTIONS = DragonRiderAction.values();
+
+    public static byte quantizeAxis(float value) {
+        return (byte) Math.round(Mth.clamp(value, -1.0f, 1.0f) * 127.0f);
+    }
+
+    public static float dequantizeAxis(byte value) {
+        return value / 127.0f;
+    }
+
+    public static short quantizeYaw(float yawDegrees) {
+        return (short) Math.round(Mth.wrapDegrees(yawDegrees) * (65536.0f / 360.0f));
+    }
+
+    public static float dequantizeYaw(short value) {
+        return value * (360.0f / 65536.0f);
+    }
+
+    public boolean hasButton(int mask) {
+        return (buttons & mask) != 0;
+    }
+
+    public boolean hasAbility() {
+        return abilityId >= 0;
+    }
+
+    private static boolean carriesAbility(DragonRiderAction action) {
+        return action == DragonRiderAction.ABILITY_USE || action == DragonRiderAction.ABILITY_STOP;
     }
 
     public static void encode(MessageDragonRideInput msg, FriendlyByteBuf buf) {
-        buf.writeBoolean(msg.goingUp());
-        buf.writeBoolean(msg.goingDown());
-        buf.writeEnum(msg.action() != null ? msg.action() : DragonRiderAction.NONE);
-        // Only send ability name if it's an ability use/stop action
-        if (msg.action() == DragonRiderAction.ABILITY_USE || msg.action() == DragonRiderAction.ABILITY_STOP) {
-            buf.writeUtf(msg.abilityName() != null ? msg.abilityName() : "");
+        DragonRiderAction action = msg.action() != null ? msg.action() : DragonRiderAction.NONE;
+        buf.writeShort(msg.seq());
+        buf.writeByte(msg.buttons());
+        buf.writeByte(msg.forward());
+        buf.writeByte(msg.strafe());
+        buf.writeShort(msg.yaw());
+        buf.writeByte(action.ordinal());
+        // Only send ability id if it's an ability use/stop action (+1 so "none" stays a single 0 byte)
+        if (carriesAbility(action)) {
+            buf.writeVarInt(msg.abilityId() + 1);
         }
-        buf.writeFloat(msg.forward());
-        buf.writeFloat(msg.strafe());
-        buf.writeFloat(msg.yaw());
     }
-    
+
     public static MessageDragonRideInput decode(FriendlyByteBuf buf) {
-        boolean goingUp = buf.readBoolean();
-        boolean goingDown = buf.readBoolean();
-        DragonRiderAction action = buf.readEnum(DragonRiderAction.class);
-        String abilityName = null;
-        // Only read ability name if it's an ability use/stop action
-        if (action == DragonRiderAction.ABILITY_USE || action == DragonRiderAction.ABILITY_STOP) {
-            abilityName = buf.readUtf();
-            if (abilityName.isEmpty()) abilityName = null;
+        short seq = buf.readShort();
+        byte buttons = buf.readByte();
+        byte forward = buf.readByte();
+        byte strafe = buf.readByte();
+        short yaw = buf.readShort();
+        int ordinal = buf.readUnsignedByte();
+        DragonRiderAction action = ordinal < ACTIONS.length ? ACTIONS[ordinal] : DragonRiderAction.NONE;
+        int abilityId = -1;
+        // Only read ability id if it's an ability use/stop action
+        if (carriesAbility(action)) {
+            abilityId = buf.readVarInt() - 1;
         }
-        float forward = buf.readFloat();
-        float strafe = buf.readFloat();
-        float yaw = buf.readFloat();
-        return new MessageDragonRideInput(goingUp, goingDown, action, abilityName, forward, strafe, yaw);
+        return new MessageDragonRideInput(seq, buttons, forward, strafe, yaw, action, abilityId);
     }
-    
+
     public static void handle(MessageDragonRideInput msg, Supplier<NetworkEvent.Context> ctx) {
         ctx.get().enqueueWork(() -> {
             ServerPlayer player = ctx.get().getSender();
             if (player != null) {
                 Entity vehicle = player.getVehicle();
                 if (vehicle instanceof LightningDragonEntity dragon && dragon.isTame() && dragon.isOwnedBy(player)) {
-                    // Always handle vertical movement commands when flying
+                    // Drop out-of-order or duplicate frames; also refreshes the keepalive window
+                    if (!dragon.acceptRiderInputFrame(msg.seq())) {
+                        return;
+                    }
                     boolean locked = dragon.areRiderControlsLocked();
+                    // Always handle vertical movement commands when flying
                     if (dragon.isFlying()) {
-                        dragon.setGoingUp(msg.goingUp());
-                        dragon.setGoingDown(msg.goingDown());
+                        dragon.setGoingUp(msg.hasButton(BUTTON_ASCEND));
+                        dragon.setGoingDown(msg.hasButton(BUTTON_DESCEND));
                     } else {
                         // Clear vertical movement when not flying
                         dragon.setGoingUp(false);
                         dragon.setGoingDown(false);
                     }
 
+                    // Acceleration is a held button (L-Ctrl)
+                    if (msg.hasButton(BUTTON_ACCELERATE)) {
+                        if (!locked) dragon.setAccelerating(true);
+                    } else {
+                        dragon.setAccelerating(false);
+                    }
+
                     // Update last ground movement inputs on the server for animation syncing
                     // Store small values as zero to avoid drift
-                    float fwd = Math.abs(msg.forward()) > 0.02f ? msg.forward() : 0f;
-                    float str = Math.abs(msg.strafe()) > 0.02f ? msg.strafe() : 0f;
+                    float rawFwd = dequantizeAxis(msg.forward());
+                    float rawStr = dequantizeAxis(msg.strafe());
+                    float fwd = Math.abs(rawFwd) > 0.02f ? rawFwd : 0f;
+                    float str = Math.abs(rawStr) > 0.02f ? rawStr : 0f;
                     dragon.setLastRiderForward(fwd);
                     dragon.setLastRiderStrafe(str);
 
@@ -82,15 +135,12 @@ public record MessageDragonRideInput(boolean goingUp,
                         }
                         if (dragon.getEntityData().get(LightningDragonEntity.DATA_GROUND_MOVE_STATE) != moveState) {
                             dragon.getEntityData().set(LightningDragonEntity.DATA_GROUND_MOVE_STATE, moveState);
-                            // Also nudge observers immediately
-                            com.leon.saintsdragons.common.network.NetworkHandler.INSTANCE.send(
-                                    net.minecraftforge.network.PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> dragon),
-                                    new com.leon.saintsdragons.common.network.MessageDragonAnimState(dragon.getId(), (byte) moveState, (byte) dragon.getSyncedFlightMode())
-                            );
+                            // Also nudge observers in this tick's anim-state batch
+                            DragonAnimStateSync.markDirty(dragon, moveState, dragon.getSyncedFlightMode());
                         }
                     }
 
-                    // Handle actions using type-safe enum
+                    // Handle one-shot actions using type-safe enum
                     switch (msg.action()) {
                         case TAKEOFF_REQUEST:
                             // Block takeoff while locked (e.g., ground roar)
@@ -98,22 +148,14 @@ public record MessageDragonRideInput(boolean goingUp,
                                 dragon.requestRiderTakeoff();
                             }
                             break;
-                        case ACCELERATE:
-                            // Handle acceleration input - L-Ctrl pressed
-                            if (!locked) dragon.setAccelerating(true);
-                            break;
-                        case STOP_ACCELERATE:
-                            // Handle acceleration stop - L-Ctrl released
-                            dragon.setAccelerating(false);
-                            break;
                         case ABILITY_USE:
-                            if (msg.hasAbilityName()) {
-                                dragon.useRidingAbility(msg.abilityName());
+                            if (msg.hasAbility()) {
+                                dragon.useRidingAbility(msg.abilityId());
                             }
                             break;
                         case ABILITY_STOP:
                             // Stop an active hold-to-use ability
-                            if (msg.hasAbilityName()) {
+                            if (msg.hasAbility()) {
                                 var active = dragon.getActiveAbility();
                                 if (active != null) {
                                     // Stop regardless of type when names match, to avoid tight coupling
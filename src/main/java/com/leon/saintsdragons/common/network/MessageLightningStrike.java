@@ -0,0 +1,48 @@
+package com.leon.saintsdragons.common.network;
+
+import com.leon.saintsdragons.client.particle.lightningdragon.LightningStrikeEmitter;
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+import net.minecraftforge.network.PacketDistributor;
+
+import java.util.function.Supplier;
+
+/**
+ * Server -> Client roar lightning strike. The server applies damage itself and never spawns a bolt
+ * entity; nearby clients get this message and play the bolt, sky flash and thunder locally
+ * (see {@link LightningStrikeEmitter}).
+ */
+public record MessageLightningStrike(double x, double y, double z) {
+
+    // Thunder is loud; still only players in this range hear or see the strike
+    private static final double SEND_RANGE = 96.0;
+
+    public static void send(ServerLevel level, MessageLightningStrike msg) {
+        NetworkHandler.INSTANCE.send(PacketDistributor.NEAR.with(() ->
+                        new PacketDistributor.TargetPoint(msg.x(), msg.y(), msg.z(), SEND_RANGE, level.dimension())),
+                msg);
+    }
+
+    public static void encode(MessageLightningStrike msg, FriendlyByteBuf buf) {
+        buf.writeDouble(msg.x());
+        buf.writeDouble(msg.y());
+        buf.writeDouble(msg.z());
+    }
+
+    public static MessageLightningStrike decode(FriendlyByteBuf buf) {
+        return new MessageLightningStrike(buf.readDouble(), buf.readDouble(), buf.readDouble());
+    }
+
+    public static void handle(MessageLightningStrike msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+            var level = Minecraft.getInstance().level;
+            if (level == null) return;
+            LightningStrikeEmitter.emit(level, msg);
+        }));
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -0,0 +1,67 @@
+package com.leon.saintsdragons.common.network;
+
+import com.leon.saintsdragons.client.LocalStormWeather;
+import com.leon.saintsdragons.server.entity.handler.DragonStormCells;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.fml.DistExecutor;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Server -> Client full set of storm cells in the player's dimension. Sent when a cell is
+ * summoned or expires, and on login/dimension change. Expiry travels as remaining ticks.
+ */
+public record MessageStormCells(double[] xs, double[] zs, float[] radii, int[] remaining) {
+
+    private static final int MAX_CELLS = 64;
+
+    public static MessageStormCells of(List<DragonStormCells.Cell> cells, long gameTime) {
+        int n = Math.min(cells.size(), MAX_CELLS);
+        double[] xs = new double[n];
+        double[] zs = new double[n];
+        float[] radii = new float[n];
+        int[] remaining = new int[n];
+        for (int i = 0; i < n; i++) {
+            DragonStormCells.Cell c = cells.get(i);
+            xs[i] = c.x();
+            zs[i] = c.z();
+            radii[i] = c.radius();
+            remaining[i] = (int) Math.max(0L, c.expiresAt() - gameTime);
+        }
+        return new MessageStormCells(xs, zs, radii, remaining);
+    }
+
+    public static void encode(MessageStormCells msg, FriendlyByteBuf buf) {
+        int n = msg.xs().length;
+        buf.writeVarInt(n);
+        for (int i = 0; i < n; i++) {
+            buf.writeDouble(msg.xs()[i]);
+            buf.writeDouble(msg.zs()[i]);
+            buf.writeFloat(msg.radii()[i]);
+            buf.writeVarInt(msg.remaining()[i]);
+        }
+    }
+
+    public static MessageStormCells decode(FriendlyByteBuf buf) {
+        int n = Math.min(buf.readVarInt(), MAX_CELLS);
+        double[] xs = new double[n];
+        double[] zs = new double[n];
+        float[] radii = new float[n];
+        int[] remaining = new int[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = buf.readDouble();
+            zs[i] = buf.readDouble();
+            radii[i] = buf.readFloat();
+            remaining[i] = buf.readVarInt();
+        }
+        return new MessageStormCells(xs, zs, radii, remaining);
+    }
+
+    public static void handle(MessageStormCells msg, Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> LocalStormWeather.apply(msg)));
+        ctx.get().setPacketHandled(true);
+    }
+}
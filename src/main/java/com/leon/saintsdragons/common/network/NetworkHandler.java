@@ -7,10 +7,14 @@ import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.simple.SimpleChannel;
 
 public class NetworkHandler {
-    private static final String PROTOCOL_VERSION = "1";
+    private static final String PROTOCOL_VERSION = "6";
     private static final int ID_RIDER_INPUT = 0;
     private static final int ID_CONTROL_STATE = 1;
     private static final int ID_ANIM_STATE   = 2;
+    private static final int ID_ABILITY_TABLE = 3;
+    private static final int ID_ARC_BURST = 4;
+    private static final int ID_LIGHTNING_STRIKE = 5;
+    private static final int ID_STORM_CELLS = 6;
 
     public static final SimpleChannel INSTANCE = NetworkRegistry.newSimpleChannel(
             ResourceLocation.fromNamespaceAndPath(SaintsDragons.MOD_ID, "main"),
@@ -34,11 +38,39 @@ public class NetworkHandler {
                 .consumerNetworkThread(MessageDragonControl::handle)
                 .add();
 
-        // Message: Server->Client animation state pulse
-        INSTANCE.messageBuilder(MessageDragonAnimState.class, ID_ANIM_STATE)
-                .encoder(MessageDragonAnimState::encode)
-                .decoder(MessageDragonAnimState::decode)
-                .consumerNetworkThread(MessageDragonAnimState::handle)
+        // Message: Server->Client batched animation state (one per player per tick)
+        INSTANCE.messageBuilder(MessageDragonAnimStateBatch.class, ID_ANIM_STATE)
+                .encoder(MessageDragonAnimStateBatch::encode)
+                .decoder(MessageDragonAnimStateBatch::decode)
+                .consumerNetworkThread(MessageDragonAnimStateBatch::handle)
+                .add();
+
+        // Message: Server->Client ability id table (login)
+        INSTANCE.messageBuilder(MessageAbilityIdTable.class, ID_ABILITY_TABLE)
+                .encoder(MessageAbilityIdTable::encode)
+                .decoder(MessageAbilityIdTable::decode)
+                .consumerNetworkThread(MessageAbilityIdTable::handle)
+                .add();
+
+        // Message: Server->Client lightning arc burst (client builds the particle polyline)
+        INSTANCE.messageBuilder(MessageArcBurst.class, ID_ARC_BURST)
+                .encoder(MessageArcBurst::encode)
+                .decoder(MessageArcBurst::decode)
+                .consumerNetworkThread(MessageArcBurst::handle)
+                .add();
+
+        // Message: Server->Client roar lightning strike (client-only visual bolt + local thunder)
+        INSTANCE.messageBuilder(MessageLightningStrike.class, ID_LIGHTNING_STRIKE)
+                .encoder(MessageLightningStrike::encode)
+                .decoder(MessageLightningStrike::decode)
+                .consumerNetworkThread(MessageLightningStrike::handle)
+                .add();
+
+        // Message: Server->Client storm cells in the player's dimension (local rain/thunder)
+        INSTANCE.messageBuilder(MessageStormCells.class, ID_STORM_CELLS)
+                .encoder(MessageStormCells::encode)
+                .decoder(MessageStormCells::decode)
+                .consumerNetworkThread(MessageStormCells::handle)
                 .add();
 
         // No client-driven beam or rider anchor sync; server computes authoritative state
@@ -4,18 +4,28 @@ import com.leon.saintsdragons.server.entity.ability.DragonAbility;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import net.minecraft.world.entity.LivingEntity;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Simple registry to map ability names to types and back.
+ * Each type also gets a numeric id in registration order; ids are what travel over the
+ * network (the server's table is synced to clients at login). Names remain the
+ * persistence key since ids may shift between mod versions.
  */
 public final class AbilityRegistry {
     private AbilityRegistry() {}
 
     private static final Map<String, DragonAbilityType<?, ?>> BY_NAME = new HashMap<>();
     private static final Map<DragonAbilityType<?, ?>, String> BY_TYPE = new IdentityHashMap<>();
+    private static final List<DragonAbilityType<?, ?>> BY_ID = new ArrayList<>();
+    private static final Map<DragonAbilityType<?, ?>, Integer> ID_BY_TYPE = new IdentityHashMap<>();
+
+    // Client only: server-assigned ids by name, from the login table (null until received)
+    private static volatile Map<String, Integer> remoteIds = null;
 
     public static synchronized <M extends LivingEntity, T extends DragonAbility<M>> DragonAbilityType<M, T> register(DragonAbilityType<M, T> type) {
         return register(type.getName(), type);
@@ -30,6 +40,10 @@ public final class AbilityRegistry {
             throw new IllegalStateException("Duplicate ability name: " + name);
         }
         BY_TYPE.putIfAbsent(type, name);
+        if (!ID_BY_TYPE.containsKey(type)) {
+            ID_BY_TYPE.put(type, BY_ID.size());
+            BY_ID.add(type);
+        }
         return type;
     }
 
@@ -40,4 +54,55 @@ public final class AbilityRegistry {
     public static String getName(DragonAbilityType<?, ?> type) {
         return BY_TYPE.get(type);
     }
-}
\ No newline at end of file
+
+    /**
+     * Local numeric id, or -1 if the type was never registered.
+     */
+    public static int getId(DragonAbilityType<?, ?> type) {
+        Integer id = ID_BY_TYPE.get(type);
+        return id != null ? id : -1;
+    }
+
+    public static DragonAbilityType<?, ?> byId(int id) {
+        return id >= 0 && id < BY_ID.size() ? BY_ID.get(id) : null;
+    }
+
+    /**
+     * Names indexed by id, for the login sync table.
+     */
+    public static synchronized String[] nameTable() {
+        String[] names = new String[BY_ID.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = BY_TYPE.get(BY_ID.get(i));
+        }
+        return names;
+    }
+
+    /**
+     * Client side: adopt the server's id table. Unknown names are ignored.
+     */
+    public static void applyRemoteTable(String[] names) {
+        Map<String, Integer> ids = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            ids.put(names[i], i);
+        }
+        remoteIds = ids;
+    }
+
+    public static void clearRemoteTable() {
+        remoteIds = null;
+    }
+
+    /**
+     * Id to put on the wire for this type: the server's id when a table was received,
+     * otherwise the local id (integrated server / same build).
+     */
+    public static int getNetworkId(DragonAbilityType<?, ?> type) {
+        Map<String, Integer> ids = remoteIds;
+        if (ids != null) {
+            Integer id = ids.get(getName(type));
+            return id != null ? id : -1;
+        }
+        return getId(type);
+    }
+}
@@ -1,6 +1,7 @@
 package com.leon.saintsdragons.server.ai.goals;
 
 import com.leon.saintsdragons.common.registry.ModAbilities;
+import com.leon.saintsdragons.server.ai.navigation.DragonSolidityCache;
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
 import com.leon.saintsdragons.util.DragonMathUtil;
 import net.minecraft.world.entity.LivingEntity;
@@ -205,7 +206,7 @@ public class DragonAirCombatGoal extends Goal {
         if (phaseTimer < windup) {
             Vec3 lead = leadPoint(target, 4.0);
             Vec3 aim = new Vec3(lead.x, target.getEyeY() + 1.0, lead.z);
-            Vec3 p = ensureClearArc(aim, 8);
+            Vec3 p = ensureClearArc(aim);
             dragon.getMoveControl().setWantedPosition(p.x, p.y, p.z, 1.2);
             com.leon.saintsdragons.util.DragonMathUtil.smoothLookAt(dragon, target, 25f, 25f);
             dragon.setAttackKind(ATTACK_KIND_DIVE);
@@ -216,7 +217,7 @@ public class DragonAirCombatGoal extends Goal {
         if (phaseTimer < windup + commit) {
             Vec3 lead = leadPoint(target, 2.0);
             Vec3 aim = new Vec3(lead.x, Math.min(dragon.getY(), target.getY() + 0.3), lead.z);
-            Vec3 p = ensureClearArc(aim, 10);
+            Vec3 p = ensureClearArc(aim);
             dragon.getMoveControl().setWantedPosition(p.x, p.y, p.z, 1.4);
             com.leon.saintsdragons.util.DragonMathUtil.smoothLookAt(dragon, target, 35f, 35f);
             dragon.setAttackKind(ATTACK_KIND_DIVE);
@@ -249,7 +250,7 @@ public class DragonAirCombatGoal extends Goal {
         float speed = 0.05f;
         Vec3 circle = com.leon.saintsdragons.util.DragonMathUtil.circleEntityPosition(target, radius, speed, circleClockwise, phaseTimer, 0);
         Vec3 goal = circle.add(0, 10, 0);
-        goal = ensureClearArc(goal, 8);
+        goal = ensureClearArc(goal);
         dragon.getMoveControl().setWantedPosition(goal.x, goal.y, goal.z, 1.0);
         com.leon.saintsdragons.util.DragonMathUtil.smoothLookAt(dragon, target, 20f, 20f);
 
@@ -270,11 +271,11 @@ public class DragonAirCombatGoal extends Goal {
         return target.position().add(tv.normalize().scale(Math.max(0.0, ahead)));
     }
 
-    private Vec3 ensureClearArc(Vec3 candidate, int steps) {
-        if (isPathClear(dragon.position(), candidate, steps)) return candidate;
+    private Vec3 ensureClearArc(Vec3 candidate) {
+        if (isPathClear(dragon.position(), candidate)) return candidate;
         for (int i = 0; i < 2; i++) {
             Vec3 alt = sampleAround(candidate);
-            if (alt != null && isPathClear(dragon.position(), alt, steps)) return alt;
+            if (alt != null && isPathClear(dragon.position(), alt)) return alt;
         }
         return candidate;
     }
@@ -285,29 +286,27 @@ public class DragonAirCombatGoal extends Goal {
             float yaw = (float) (rnd.nextFloat() * Math.PI * 2);
             float r = (float) 3.0 + rnd.nextFloat() * Math.max(0.01f, ((float) 8.0 - (float) 3.0));
             Vec3 p = new Vec3(around.x + Math.cos(yaw) * r, around.y + 0.5 + rnd.nextFloat() * 2.5, around.z + Math.sin(yaw) * r);
-            if (isPathClear(dragon.position(), p, 8)) return p;
+            if (isPathClear(dragon.position(), p)) return p;
         }
         return around;
     }
 
-    private boolean isPathClear(Vec3 from, Vec3 to, int steps) {
-        if (steps <= 0) return true;
-        Vec3 delta = to.subtract(from);
-        Vec3 step = delta.scale(1.0 / steps);
-        var aabb = dragon.getBoundingBox();
-        for (int i = 1; i <= steps; i++) {
-            aabb = aabb.move(step);
-            if (!dragon.level().noCollision(dragon, aabb)) return false;
-        }
-        var hit = dragon.level().clip(new net.minecraft.world.level.ClipContext(
-                from, to,
-                net.minecraft.world.level.ClipContext.Block.COLLIDER,
-                net.minecraft.world.level.ClipContext.Fluid.NONE,
-                dragon));
-        return hit.getType() == net.minecraft.world.phys.HitResult.Type.MISS;
+    // Sweeps the whole body against the solidity bitsets; the sweep covers the centre line too
+    private boolean isPathClear(Vec3 from, Vec3 to) {
+        if (!(dragon.level() instanceof net.minecraft.server.level.ServerLevel server)) return true;
+        var aabb = dragon.getBoundingBox().move(from.subtract(dragon.position()));
+        return DragonSolidityCache.isSweepClear(server, aabb, to.subtract(from));
     }
 
     private double groundLevelAt(Vec3 pos) {
+        // Open sky: cached heightmap column, no probing
+        if (dragon.level() instanceof net.minecraft.server.level.ServerLevel server) {
+            int surface = com.leon.saintsdragons.server.ai.navigation.DragonTerrainColumns.openSkySurfaceY(
+                    server, (int) pos.x, (int) pos.y, (int) pos.z);
+            if (surface != com.leon.saintsdragons.server.ai.navigation.DragonTerrainColumns.UNKNOWN) {
+                return surface;
+            }
+        }
         for (int y = (int) pos.y; y > dragon.level().getMinBuildHeight(); y--) {
             if (!dragon.level().getBlockState(new net.minecraft.core.BlockPos((int) pos.x, y, (int) pos.z)).isAir()) {
                 return y + 1;
@@ -1,18 +1,17 @@
 package com.leon.saintsdragons.server.ai.goals;
 
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
+import com.leon.saintsdragons.server.entity.handler.DragonProjectileTracker;
 import com.leon.saintsdragons.util.DragonMathUtil;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.projectile.Projectile;
 import net.minecraft.world.level.ClipContext;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
-import javax.annotation.Nullable;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -24,8 +23,7 @@ public class DragonDodgeGoal extends Goal {
     private final LightningDragonEntity dragon;
 
     // tuning
-    private static final double SCAN_RADIUS_H = 32.0;
-    private static final double SCAN_RADIUS_V = 22.0;
+    private static final double THREAT_RADIUS = 30.0;
     private static final int    SCAN_INTERVAL = 2;     // faster scans
     private static final int    DODGE_TICKS   = 9;     // slightly longer dodge burst
     private static final int    COOLDOWN      = 8;     // reduced cooldown between dodges
@@ -40,10 +38,11 @@ public class DragonDodgeGoal extends Goal {
     private long nextScanTime = 0L;
     private long nextAllowedDodgeTime = 0L; // <-- time-based cooldown
 
-    private List<Projectile> getCachedThreats() {
-        return dragon.getCachedNearbyProjectiles().stream()
-                .filter(p -> p.isAlive() &&
-                        p.getOwner() != dragon &&
+    private List<Projectile> getNearbyThreats() {
+        // Shared per-level registry; empty (and free) when nothing is in flight
+        if (!(dragon.level() instanceof ServerLevel server)) return List.of();
+        return DragonProjectileTracker.getNearby(server, dragon.position(), THREAT_RADIUS).stream()
+                .filter(p -> p.getOwner() != dragon &&
                         p.getOwner() != dragon.getOwner() &&
                         p.getDeltaMovement().lengthSqr() > MIN_SPEED2)
                 .collect(Collectors.toList());
@@ -67,14 +66,15 @@ public class DragonDodgeGoal extends Goal {
 
         if (now < nextAllowedDodgeTime) return false;
 
-        // Use cached nearby projectiles for better performance
-        List<Projectile> threats = getCachedThreats().stream()
+        List<Projectile> nearby = getNearbyThreats();
+        if (nearby.isEmpty()) return false;
+        List<Projectile> threats = nearby.stream()
                 .filter(p -> DragonMathUtil.hasLineOfSight(dragon, p)) // prefer LOS
                 .collect(Collectors.toList());
 
         // If none pass LOS (e.g., player between us and projectile), fall back to no-LOS set
         if (threats.isEmpty()) {
-            threats = getCachedThreats();
+            threats = nearby;
         }
 
         Projectile mostThreatening = mostMovingTowardMeFromList(threats, dragon);
@@ -129,14 +129,6 @@ public class DragonDodgeGoal extends Goal {
         return projectile.level().clip(new ClipContext(from, to, ClipContext.Block.COLLIDER, ClipContext.Fluid.NONE, projectile)).getLocation();
     }
 
-    @Nullable
-    private <T extends Projectile> T mostMovingTowardMe(Class<? extends T> cls,
-                                                        Predicate<? super T> pred,
-                                                        LivingEntity me,
-                                                        AABB box) {
-        return mostMovingTowardMeFromList(me.level().getEntitiesOfClass(cls, box, pred), me);
-    }
-
     private <T extends Projectile> T mostMovingTowardMeFromList(List<? extends T> entities, LivingEntity me) {
         double best = DOT_THREAT;
         T bestEnt = null;
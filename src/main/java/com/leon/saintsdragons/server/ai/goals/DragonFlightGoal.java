@@ -1,12 +1,12 @@
 package com.leon.saintsdragons.server.ai.goals;
 
+import com.leon.saintsdragons.server.ai.navigation.DragonAirspace;
+import com.leon.saintsdragons.server.ai.navigation.DragonTerrainColumns;
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.ai.goal.Goal;
-import net.minecraft.world.level.ClipContext;
 import net.minecraft.world.level.levelgen.Heightmap;
-import net.minecraft.world.phys.BlockHitResult;
-import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.EnumSet;
@@ -29,6 +29,9 @@ public class DragonFlightGoal extends Goal {
     // Flight decision cooldown
     private int flightDecisionCooldown = 0;
 
+    // Blocks of air kept between a flight corridor and the coarse terrain below it
+    private static final double CORRIDOR_MARGIN = 3.0;
+
     public DragonFlightGoal(LightningDragonEntity dragon) {
         this.dragon = dragon;
         this.setFlags(EnumSet.of(Flag.MOVE));
@@ -283,28 +286,25 @@ public class DragonFlightGoal extends Goal {
         double cap = groundY + capAboveGround;
         double worldCap = dragon.level().getMaxBuildHeight() - 10.0;
 
+        // Never aim below the tallest column (canopy, spire) in the target's airspace cell
+        if (dragon.level() instanceof ServerLevel server) {
+            int ceiling = DragonAirspace.ceilingAt(server, x, z);
+            if (ceiling != DragonTerrainColumns.UNKNOWN) {
+                double floor = ceiling + CORRIDOR_MARGIN + 1.0;
+                target = Math.max(target, floor);
+                cap = Math.max(cap, floor);
+            }
+        }
+
         return Math.min(Math.min(target, cap), worldCap);
     }
 
     private boolean isValidFlightTarget(Vec3 target) {
         if (target == null) return false;
+        if (!(dragon.level() instanceof ServerLevel server)) return false;
 
-        BlockHitResult result = dragon.level().clip(new ClipContext(
-                dragon.getEyePosition(),
-                target,
-                ClipContext.Block.COLLIDER,
-                ClipContext.Fluid.NONE,
-                dragon
-        ));
-
-        if (result.getType() == HitResult.Type.MISS) {
-            return true;
-        }
-
-        double distanceToHit = result.getLocation().distanceTo(dragon.position());
-        double distanceToTarget = target.distanceTo(dragon.position());
-
-        return distanceToHit > distanceToTarget * 0.95;
+        // Straight corridor above the cached coarse terrain; no raycast
+        return DragonAirspace.isCorridorClear(server, dragon.getEyePosition(), target, CORRIDOR_MARGIN);
     }
 
     // ===== DECISION MAKING (FIXED) =====
@@ -346,6 +346,19 @@ public class DragonFlightGoal extends Goal {
 
     private boolean isOverDanger() {
         BlockPos dragonPos = dragon.blockPosition();
+        // Open sky below: the cached column answers directly (top block is the first thing we'd hit)
+        if (dragon.level() instanceof ServerLevel server) {
+            int surface = DragonTerrainColumns.openSkySurfaceY(server, dragonPos.getX(), dragonPos.getY(), dragonPos.getZ());
+            if (surface != DragonTerrainColumns.UNKNOWN) {
+                int depth = dragonPos.getY() - (surface - 1);
+                byte flags = DragonTerrainColumns.flags(server, dragonPos.getX(), dragonPos.getZ());
+                if ((flags & DragonTerrainColumns.FLAG_FLUID) != 0 && depth <= 10) return true;
+                boolean groundInRange = (flags & DragonTerrainColumns.FLAG_VOID) == 0 && depth <= 25;
+                return !groundInRange && dragonPos.getY() < dragon.level().getMinBuildHeight() + 20;
+            }
+        }
+
+        // Under cover or unloaded: probe down
         boolean foundSolid = false;
         boolean nearFluid = false;
 
@@ -23,7 +23,10 @@ public class DragonSleepGoal extends Goal {
     private boolean isDay() { return dragon.level().isDay(); }
     private boolean isNight() { return !dragon.level().isDay(); }
     // Clear weather helper to avoid always-inverted checks at call sites
-    private boolean isClearWeather() { return !dragon.level().isThundering(); }
+    private boolean isClearWeather() {
+        return !dragon.level().isThundering()
+                && !com.leon.saintsdragons.server.entity.handler.DragonStormCells.isInStorm(dragon.level(), dragon.getX(), dragon.getZ());
+    }
     private boolean ownerSleeping() {
         LivingEntity owner = dragon.getOwner();
         return owner instanceof net.minecraft.world.entity.player.Player p && p.isSleeping();
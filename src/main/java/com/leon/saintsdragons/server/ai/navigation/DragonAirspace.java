@@ -0,0 +1,73 @@
+package com.leon.saintsdragons.server.ai.navigation;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Coarse airspace queries over {@link DragonTerrainColumns}: the terrain is seen as 4x4 block
+ * cells, each as tall as its highest surface. A corridor is known clear when the segment stays
+ * above every cell it crosses, which needs no block reads or raycasts and refreshes by itself when
+ * the column cache drops a changed chunk. Conservative: a corridor that clips a cell's tallest
+ * column, or crosses an unloaded chunk, is reported as blocked.
+ */
+public final class DragonAirspace {
+    private DragonAirspace() {}
+
+    private static final int CELL = 4;
+
+    /** Highest terrain surface in the 4x4 cell containing (x, z), or {@link DragonTerrainColumns#UNKNOWN}. */
+    public static int ceilingAt(ServerLevel level, double x, double z) {
+        return DragonTerrainColumns.cellMaxY(level, Mth.floor(x), Mth.floor(z));
+    }
+
+    /**
+     * True if the straight segment from {@code from} to {@code to} stays at least {@code margin}
+     * blocks above the coarse terrain everywhere along it. {@code from} is the flier's own position:
+     * its cell is at least as tall as the ground it stands on, so the segment is measured from where
+     * it clears that cell ({@code max(from.y, startCeiling + margin)}) rather than rejected outright.
+     */
+    public static boolean isCorridorClear(ServerLevel level, Vec3 from, Vec3 to, double margin) {
+        int startCeiling = DragonTerrainColumns.cellMaxY(level, Mth.floor(from.x), Mth.floor(from.z));
+        if (startCeiling == DragonTerrainColumns.UNKNOWN) return false;
+        double fromY = Math.max(from.y, startCeiling + margin);
+
+        double dx = to.x - from.x;
+        double dy = to.y - fromY;
+        double dz = to.z - from.z;
+
+        int cx = Math.floorDiv(Mth.floor(from.x), CELL);
+        int cz = Math.floorDiv(Mth.floor(from.z), CELL);
+        int endX = Math.floorDiv(Mth.floor(to.x), CELL);
+        int endZ = Math.floorDiv(Mth.floor(to.z), CELL);
+        int stepX = dx > 0 ? 1 : -1;
+        int stepZ = dz > 0 ? 1 : -1;
+
+        // 2D grid traversal (Amanatides-Woo) in segment parameter t over [0, 1]
+        double tDeltaX = dx != 0 ? Math.abs(CELL / dx) : Double.POSITIVE_INFINITY;
+        double tDeltaZ = dz != 0 ? Math.abs(CELL / dz) : Double.POSITIVE_INFINITY;
+        double tMaxX = dx != 0 ? ((stepX > 0 ? (cx + 1) * CELL : cx * CELL) - from.x) / dx : Double.POSITIVE_INFINITY;
+        double tMaxZ = dz != 0 ? ((stepZ > 0 ? (cz + 1) * CELL : cz * CELL) - from.z) / dz : Double.POSITIVE_INFINITY;
+
+        double tEnter = 0.0;
+        int guard = Math.abs(endX - cx) + Math.abs(endZ - cz) + 1;
+        for (int i = 0; i <= guard; i++) {
+            double tExit = Math.min(1.0, Math.min(tMaxX, tMaxZ));
+            // Lowest point of the segment inside this cell is at one of its ends
+            double lowY = Math.min(fromY + dy * tEnter, fromY + dy * tExit);
+            int ceiling = DragonTerrainColumns.cellMaxY(level, cx * CELL, cz * CELL);
+            if (ceiling == DragonTerrainColumns.UNKNOWN || lowY - margin < ceiling) return false;
+            if (tExit >= 1.0 || (cx == endX && cz == endZ)) return true;
+
+            tEnter = tExit;
+            if (tMaxX < tMaxZ) {
+                cx += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                cz += stepZ;
+                tMaxZ += tDeltaZ;
+            }
+        }
+        return true;
+    }
+}
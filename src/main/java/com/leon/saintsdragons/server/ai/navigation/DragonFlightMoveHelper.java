@@ -2,15 +2,15 @@ package com.leon.saintsdragons.server.ai.navigation;
 
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
 import com.leon.saintsdragons.util.DragonMathUtil;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.ai.control.MoveControl;
 import net.minecraft.world.phys.Vec3;
-import net.minecraft.world.level.ClipContext;
-import net.minecraft.world.phys.HitResult;
 
 /**
  * Dragon flight movement controller - handles AI flight pathfinding
  * Banking is handled elsewhere; MoveHelper focuses on movement only
+ * Long glides that are blocked follow a {@link DragonFlightPlanner} route instead of the straight line
  */
 public class DragonFlightMoveHelper extends MoveControl {
     private final LightningDragonEntity dragon;
@@ -22,6 +22,19 @@ public class DragonFlightMoveHelper extends MoveControl {
     private static final float SPEED_FACTOR_MIN = 0.5F;
     private static final float SPEED_FACTOR_MAX = 3.2F; // Higher ceiling for snappier flight
 
+    // Route following around terrain
+    private static final double DIRECT_RANGE_SQR = 8.0 * 8.0;       // short hops never plan
+    private static final double ROUTE_GOAL_SLACK_SQR = 8.0 * 8.0;   // wanted position may drift this far before replanning
+    private static final double WAYPOINT_REACH_SQR = 3.0 * 3.0;
+    private static final int REPLAN_INTERVAL = 20;
+    private static final int SHORTCUT_INTERVAL = 5;
+
+    // Planned route to the wanted position; null while flying straight at it
+    private DragonFlightPlanner.Route route;
+    private Vec3 routeGoal = Vec3.ZERO;   // wanted position the route was requested for (shared routes carry another's goal)
+    private int waypointIndex;
+    private int replanCooldown;
+
     public DragonFlightMoveHelper(LightningDragonEntity dragon) {
         super(dragon);
         this.dragon = dragon;
@@ -45,18 +58,19 @@ public class DragonFlightMoveHelper extends MoveControl {
      * Gliding movement - this is where the magic happens
      */
     private void handleGlidingMovement() {
-        // Collision handling - simple 180 turn
-        if (dragon.horizontalCollision) {
+        // Collision handling - plan around the obstacle, or fall back to a simple 180 turn
+        if (dragon.horizontalCollision && !replanAfterCollision()) {
             dragon.setYRot(dragon.getYRot() + 180.0F);
             this.speedFactor = SPEED_FACTOR_MIN;
             dragon.getNavigation().stop();
             return;
         }
 
-        // Calculate movement vectors to target
-        float distX = (float) (this.wantedX - dragon.getX());
-        float distY = (float) (this.wantedY - dragon.getY());
-        float distZ = (float) (this.wantedZ - dragon.getZ());
+        // Calculate movement vectors to target (current waypoint when following a route)
+        Vec3 aim = steerTarget();
+        float distX = (float) (aim.x - dragon.getX());
+        float distY = (float) (aim.y - dragon.getY());
+        float distZ = (float) (aim.z - dragon.getZ());
 
         // Reduce Y influence on horizontal movement (guard against division by zero)
         double horizontalDist = Math.sqrt(distX * distX + distZ * distZ);
@@ -117,7 +131,8 @@ public class DragonFlightMoveHelper extends MoveControl {
         }
 
         // If straight path to wanted position is obstructed by blocks, damp speed to avoid wall pushing
-        if (isLineObstructed(dragon.position(), new Vec3(this.wantedX, this.wantedY, this.wantedZ))) {
+        boolean obstructed = isLineObstructed(dragon.position(), aim);
+        if (obstructed) {
             targetSpeedFactor *= 0.5f;
         }
 
@@ -132,7 +147,7 @@ public class DragonFlightMoveHelper extends MoveControl {
         Vec3 delta = targetVel.subtract(motion).scale(0.16D); // stronger blend toward target velocity
         double accelCap = 0.22D;
         // Additional dampening when obstructed
-        if (isLineObstructed(dragon.position(), new Vec3(this.wantedX, this.wantedY, this.wantedZ))) {
+        if (obstructed) {
             accelCap *= 0.6D;
             delta = delta.scale(0.6D);
         }
@@ -176,13 +191,74 @@ public class DragonFlightMoveHelper extends MoveControl {
      * Collision checking for hovering mode
      */
     private boolean checkCollisions(Vec3 direction, int steps) {
-        var boundingBox = dragon.getBoundingBox();
-        for (int i = 1; i < steps; ++i) {
-            boundingBox = boundingBox.move(direction);
-            if (!dragon.level().noCollision(dragon, boundingBox)) {
-                return false;
+        if (steps <= 1 || !(dragon.level() instanceof ServerLevel level)) return true;
+        return DragonSolidityCache.isSweepClear(level, dragon.getBoundingBox(), direction.scale(steps - 1));
+    }
+
+    /**
+     * Where to steer this tick: the wanted position when the body can sweep straight to it,
+     * otherwise the next waypoint of a route from {@link DragonFlightPlanner}.
+     */
+    private Vec3 steerTarget() {
+        Vec3 wanted = new Vec3(this.wantedX, this.wantedY, this.wantedZ);
+        if (!(dragon.level() instanceof ServerLevel level)) return wanted;
+        if (replanCooldown > 0) replanCooldown--;
+        if (route != null && routeGoal.distanceToSqr(wanted) > ROUTE_GOAL_SLACK_SQR) {
+            route = null;
+        }
+
+        Vec3 pos = dragon.position();
+        if (route == null) {
+            if (replanCooldown > 0) return wanted;
+            replanCooldown = REPLAN_INTERVAL;
+            Vec3 delta = wanted.subtract(pos);
+            if (delta.lengthSqr() < DIRECT_RANGE_SQR
+                    || DragonSolidityCache.isSweepClear(level, dragon.getBoundingBox(), delta)) {
+                return wanted;
+            }
+            route = DragonFlightPlanner.plan(level, pos, wanted, dragon.getBbWidth(), dragon.getBbHeight());
+            routeGoal = wanted;
+            waypointIndex = 0;
+            if (route == null) return wanted;
+        }
+
+        var waypoints = route.waypoints();
+        while (waypointIndex < waypoints.size() && pos.distanceToSqr(waypoints.get(waypointIndex)) < WAYPOINT_REACH_SQR) {
+            waypointIndex++;
+        }
+        // Cut the corner once the point after the current waypoint is in sweep
+        if (waypointIndex < waypoints.size() && dragon.tickCount % SHORTCUT_INTERVAL == 0) {
+            Vec3 next = waypointIndex + 1 < waypoints.size() ? waypoints.get(waypointIndex + 1) : wanted;
+            if (DragonSolidityCache.isSweepClear(level, dragon.getBoundingBox(), next.subtract(pos))) {
+                waypointIndex++;
             }
         }
+        if (waypointIndex >= waypoints.size()) {
+            route = null;
+            return wanted;
+        }
+        return waypoints.get(waypointIndex);
+    }
+
+    /**
+     * Hit something while gliding. A route that led into a wall is dropped and marked blocked in the
+     * shared cache; otherwise plan one, at most once per replan interval. True if there is a route to follow.
+     */
+    private boolean replanAfterCollision() {
+        if (!(dragon.level() instanceof ServerLevel level)) return false;
+        if (route != null) {
+            DragonFlightPlanner.markBlocked(level, route);
+            route = null;
+            replanCooldown = REPLAN_INTERVAL;
+            return false;
+        }
+        if (replanCooldown > 0) return false;
+        replanCooldown = REPLAN_INTERVAL;
+        routeGoal = new Vec3(this.wantedX, this.wantedY, this.wantedZ);
+        route = DragonFlightPlanner.plan(level, dragon.position(), routeGoal, dragon.getBbWidth(), dragon.getBbHeight());
+        waypointIndex = 0;
+        if (route == null) return false;
+        this.speedFactor = SPEED_FACTOR_MIN;
         return true;
     }
 
@@ -194,13 +270,7 @@ public class DragonFlightMoveHelper extends MoveControl {
     }
 
     private boolean isLineObstructed(Vec3 from, Vec3 to) {
-        HitResult hit = dragon.level().clip(new ClipContext(
-                from, to,
-                ClipContext.Block.COLLIDER,
-                ClipContext.Fluid.NONE,
-                dragon
-        ));
-        return hit.getType() != HitResult.Type.MISS;
+        return dragon.level() instanceof ServerLevel level && !DragonSolidityCache.isSegmentClear(level, from, to);
     }
 
     public boolean hasGivenUp() {
@@ -0,0 +1,322 @@
+package com.leon.saintsdragons.server.ai.navigation;
+
+import com.leon.saintsdragons.SaintsDragons;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Any-angle flight planner for airborne dragons. Airspace is a sparse grid of 4x4x4 block cells;
+ * a cell is free when the dragon's body fits at its centre, tested against
+ * {@link DragonSolidityCache} (whose all-air sections make open sky nearly free). Search is Lazy
+ * Theta*: A* over the 26 neighbours, but each node keeps the farthest ancestor its body can sweep
+ * to in a straight line, so paths bend only at real obstacles. Results are string-pulled into a
+ * short waypoint list and cached per level, keyed by 8-block start and goal regions and body size,
+ * so dragons flying between the same places share one search. Server thread only.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class DragonFlightPlanner {
+    private DragonFlightPlanner() {}
+
+    public static final int CELL = 4;
+    // Routes are shared between dragons whose start and goal fall in the same 2x2x2-cell region
+    private static final int REGION_SHIFT = 1;
+    private static final int MAX_EXPANSIONS = 768;
+    private static final double MAX_RANGE = 160.0;
+    private static final int SEARCH_MARGIN = 8;      // cells around the start/goal box
+    private static final int GOAL_RAISE_CELLS = 4;   // lift a buried goal at most this far
+    private static final double CLEARANCE = 0.5;     // extra air around the body when testing a cell
+    private static final long ROUTE_TTL = 200;
+    private static final int MAX_CACHED = 256;
+
+    /**
+     * Waypoints (entity feet positions) from near the start to near the goal, excluding the start.
+     * {@code partial} routes end at the closest point the search budget reached.
+     */
+    public record Route(List<Vec3> waypoints, Vec3 goal, boolean partial, long createdAt) {}
+
+    private record RouteKey(long startRegion, long goalRegion, int width, int height) {}
+
+    private static final Map<Level, Map<RouteKey, Route>> CACHE = new IdentityHashMap<>();
+
+    private static final class Node {
+        final int x, y, z;
+        double g = Double.POSITIVE_INFINITY;
+        Node parent;
+        boolean closed;
+
+        Node(int x, int y, int z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+
+    private record Open(Node node, double f) {}
+
+    /**
+     * Route for a body of the given size from {@code start} to {@code goal}, from the cache when a
+     * fresh one exists for the same regions; null when no useful route was found.
+     */
+    public static Route plan(ServerLevel level, Vec3 start, Vec3 goal, float width, float height) {
+        if (start.distanceToSqr(goal) > MAX_RANGE * MAX_RANGE) return null;
+        long now = level.getGameTime();
+        long startCell = cellKey(start, height);
+        long goalCell = cellKey(goal, height);
+        RouteKey key = new RouteKey(region(startCell), region(goalCell), Mth.ceil(width), Mth.ceil(height));
+        Map<RouteKey, Route> routes = CACHE.computeIfAbsent(level, l -> new HashMap<>());
+        Route cached = routes.get(key);
+        if (cached != null && now - cached.createdAt() < ROUTE_TTL) {
+            return cached.waypoints().isEmpty() ? null : cached;
+        }
+
+        Route route = new Search(level, width, height).run(start, goal, now);
+        if (route != null && route.waypoints().isEmpty()) route = null;
+        if (routes.size() >= MAX_CACHED) {
+            routes.values().removeIf(r -> now - r.createdAt() >= ROUTE_TTL);
+            if (routes.size() >= MAX_CACHED) routes.clear();
+        }
+        // Failures are cached too, so a dragon stuck behind a wall doesn't search every few ticks
+        routes.put(key, route != null ? route : failure(goal, now));
+        return route;
+    }
+
+    /**
+     * A cached route turned out to be blocked: replace it with a cached failure, so the next request
+     * for those regions gets null until the entry expires instead of re-searching into the same wall.
+     */
+    public static void markBlocked(ServerLevel level, Route route) {
+        Map<RouteKey, Route> routes = CACHE.get(level);
+        if (routes == null) return;
+        long now = level.getGameTime();
+        routes.replaceAll((k, r) -> r == route ? failure(route.goal(), now) : r);
+    }
+
+    private static Route failure(Vec3 goal, long now) {
+        return new Route(Collections.emptyList(), goal, true, now);
+    }
+
+    private static long cellKey(Vec3 feet, float height) {
+        return BlockPos.asLong(
+                Math.floorDiv(Mth.floor(feet.x), CELL),
+                Math.floorDiv(Mth.floor(feet.y + height * 0.5), CELL),
+                Math.floorDiv(Mth.floor(feet.z), CELL));
+    }
+
+    private static long region(long cell) {
+        return BlockPos.asLong(
+                BlockPos.getX(cell) >> REGION_SHIFT,
+                BlockPos.getY(cell) >> REGION_SHIFT,
+                BlockPos.getZ(cell) >> REGION_SHIFT);
+    }
+
+    private static final class Search {
+        private final ServerLevel level;
+        private final float width;
+        private final float height;
+        private final Long2ObjectOpenHashMap<Node> nodes = new Long2ObjectOpenHashMap<>();
+        // 0 unknown, 1 free, 2 blocked
+        private final Long2ByteOpenHashMap free = new Long2ByteOpenHashMap();
+        private int minX, minY, minZ, maxX, maxY, maxZ;
+
+        Search(ServerLevel level, float width, float height) {
+            this.level = level;
+            this.width = width;
+            this.height = height;
+        }
+
+        Route run(Vec3 start, Vec3 goal, long now) {
+            long sk = cellKey(start, height);
+            long gk = cellKey(goal, height);
+            int sx = BlockPos.getX(sk), sy = BlockPos.getY(sk), sz = BlockPos.getZ(sk);
+            int gx = BlockPos.getX(gk), gy = BlockPos.getY(gk), gz = BlockPos.getZ(gk);
+
+            minX = Math.min(sx, gx) - SEARCH_MARGIN;
+            maxX = Math.max(sx, gx) + SEARCH_MARGIN;
+            minZ = Math.min(sz, gz) - SEARCH_MARGIN;
+            maxZ = Math.max(sz, gz) + SEARCH_MARGIN;
+            minY = Math.max(Math.min(sy, gy) - SEARCH_MARGIN, Math.floorDiv(level.getMinBuildHeight(), CELL));
+            maxY = Math.min(Math.max(sy, gy) + SEARCH_MARGIN, Math.floorDiv(level.getMaxBuildHeight(), CELL) + 1);
+
+            // Goals hugging terrain (perches, targets on the ground) aim for the first free cell above
+            while (!isFree(gx, gy, gz) && gy - BlockPos.getY(gk) < GOAL_RAISE_CELLS && gy < maxY) gy++;
+            if (!isFree(gx, gy, gz)) return null;
+
+            Node startNode = node(sx, sy, sz);
+            startNode.g = 0.0;
+            startNode.parent = startNode;
+            Node goalNode = node(gx, gy, gz);
+
+            PriorityQueue<Open> open = new PriorityQueue<>((a, b) -> Double.compare(a.f, b.f));
+            open.add(new Open(startNode, heuristic(startNode, goalNode)));
+            Node best = startNode;
+            double bestH = heuristic(startNode, goalNode);
+            int expansions = 0;
+
+            while (!open.isEmpty() && expansions < MAX_EXPANSIONS) {
+                Open entry = open.poll();
+                Node s = entry.node;
+                if (s.closed || entry.f > s.g + heuristic(s, goalNode) + 1.0e-9) continue;
+                setVertex(s);
+                if (s == goalNode) return toRoute(start, goal, s, false, now);
+                s.closed = true;
+                expansions++;
+                double h = heuristic(s, goalNode);
+                if (h < bestH) {
+                    bestH = h;
+                    best = s;
+                }
+
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dy = -1; dy <= 1; dy++) {
+                        for (int dz = -1; dz <= 1; dz++) {
+                            if ((dx | dy | dz) == 0) continue;
+                            int nx = s.x + dx, ny = s.y + dy, nz = s.z + dz;
+                            if (nx < minX || nx > maxX || ny < minY || ny > maxY || nz < minZ || nz > maxZ) continue;
+                            if (!isFree(nx, ny, nz)) continue;
+                            Node n = node(nx, ny, nz);
+                            if (n.closed) continue;
+                            // Lazy: assume s's parent sees n; setVertex checks when n is expanded
+                            Node p = s.parent;
+                            double g = p.g + distance(p, n);
+                            if (g < n.g) {
+                                n.g = g;
+                                n.parent = p;
+                                open.add(new Open(n, g + heuristic(n, goalNode)));
+                            }
+                        }
+                    }
+                }
+            }
+            // Out of budget: head for the closest cell reached if it's real progress
+            if (best != startNode && bestH < heuristic(startNode, goalNode) - 2.0 * CELL) {
+                return toRoute(start, goal, best, true, now);
+            }
+            return null;
+        }
+
+        // Lazy Theta*: if the assumed parent can't actually see s, fall back to the best closed neighbour
+        private void setVertex(Node s) {
+            if (s.parent == s || canSweep(s.parent, s)) return;
+            Node bestParent = null;
+            double bestG = Double.POSITIVE_INFINITY;
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        if ((dx | dy | dz) == 0) continue;
+                        Node n = nodes.get(BlockPos.asLong(s.x + dx, s.y + dy, s.z + dz));
+                        if (n == null || !n.closed) continue;
+                        double g = n.g + distance(n, s);
+                        if (g < bestG) {
+                            bestG = g;
+                            bestParent = n;
+                        }
+                    }
+                }
+            }
+            if (bestParent != null) {
+                s.parent = bestParent;
+                s.g = bestG;
+            }
+        }
+
+        private Route toRoute(Vec3 start, Vec3 goal, Node end, boolean partial, long now) {
+            List<Vec3> path = new ArrayList<>();
+            for (Node n = end; n.parent != n; n = n.parent) path.add(feet(n));
+            Collections.reverse(path);
+
+            // String-pull: from each anchor, jump to the farthest waypoint the body can sweep to
+            List<Vec3> smoothed = new ArrayList<>(path.size());
+            Vec3 anchor = start;
+            int i = 0;
+            while (i < path.size()) {
+                int far = i;
+                for (int j = path.size() - 1; j > i; j--) {
+                    if (canSweep(anchor, path.get(j))) {
+                        far = j;
+                        break;
+                    }
+                }
+                anchor = path.get(far);
+                smoothed.add(anchor);
+                i = far + 1;
+            }
+            return new Route(List.copyOf(smoothed), goal, partial, now);
+        }
+
+        private Node node(int x, int y, int z) {
+            long key = BlockPos.asLong(x, y, z);
+            Node n = nodes.get(key);
+            if (n == null) {
+                n = new Node(x, y, z);
+                nodes.put(key, n);
+            }
+            return n;
+        }
+
+        private boolean isFree(int x, int y, int z) {
+            long key = BlockPos.asLong(x, y, z);
+            byte state = free.get(key);
+            if (state == 0) {
+                AABB body = bodyAt(feet(x, y, z)).inflate(CLEARANCE);
+                state = DragonSolidityCache.anySolid(level, body) ? (byte) 2 : (byte) 1;
+                free.put(key, state);
+            }
+            return state == 1;
+        }
+
+        private Vec3 feet(Node n) {
+            return feet(n.x, n.y, n.z);
+        }
+
+        // Body centred in the cell
+        private Vec3 feet(int x, int y, int z) {
+            return new Vec3(x * CELL + CELL * 0.5, y * CELL + CELL * 0.5 - height * 0.5, z * CELL + CELL * 0.5);
+        }
+
+        private AABB bodyAt(Vec3 feet) {
+            double hw = width * 0.5;
+            return new AABB(feet.x - hw, feet.y, feet.z - hw, feet.x + hw, feet.y + height, feet.z + hw);
+        }
+
+        private boolean canSweep(Node from, Node to) {
+            return canSweep(feet(from), feet(to));
+        }
+
+        private boolean canSweep(Vec3 from, Vec3 to) {
+            return DragonSolidityCache.isSweepClear(level, bodyAt(from), to.subtract(from));
+        }
+
+        private static double distance(Node a, Node b) {
+            int dx = a.x - b.x, dy = a.y - b.y, dz = a.z - b.z;
+            return Math.sqrt(dx * dx + dy * dy + dz * dz) * CELL;
+        }
+
+        private static double heuristic(Node n, Node goal) {
+            return distance(n, goal);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            CACHE.remove(level);
+        }
+    }
+}
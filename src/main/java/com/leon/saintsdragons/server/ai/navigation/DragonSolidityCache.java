@@ -0,0 +1,227 @@
+package com.leon.saintsdragons.server.ai.navigation;
+
+import com.leon.saintsdragons.SaintsDragons;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * One bit per block ("has a collision shape") for every chunk section a dragon has asked about.
+ * Sections are built on first use, patched bit by bit from block updates and dropped on chunk
+ * unload. Bits are laid out x-fastest, so one 64-bit word holds four 16-block x rows and a box
+ * test is a mask-and per row instead of a collision query per block. Used for clearance sweeps
+ * of the dragon's large body, where {@code noCollision} per step is expensive.
+ * <p>
+ * Conservative: any collision shape marks the whole block solid, and unloaded sections count as
+ * solid. Shapes taller than a block (fences, walls) only mark their own block, and entities and
+ * the world border are not considered.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class DragonSolidityCache {
+    private DragonSolidityCache() {}
+
+    private static final int WORDS = 4096 / 64;
+    // Shared sentinels; copied before being patched
+    private static final long[] EMPTY = new long[WORDS];
+    private static final long[] FULL = new long[WORDS];
+    static {
+        Arrays.fill(FULL, -1L);
+    }
+
+    // Sweep step; at most one block so a box at least a block wide can't skip a solid block
+    private static final double SWEEP_STEP = 1.0;
+
+    private static final Map<Level, Long2ObjectOpenHashMap<long[]>> LEVELS = new IdentityHashMap<>();
+
+    private static int bitIndex(int x, int y, int z) {
+        return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    /** Bits for the section, building it if needed; null if its chunk isn't loaded. */
+    private static long[] section(ServerLevel level, int sx, int sy, int sz) {
+        if (sy < level.getMinSection()) return FULL;
+        if (sy >= level.getMaxSection()) return EMPTY;
+        Long2ObjectOpenHashMap<long[]> sections = LEVELS.computeIfAbsent(level, l -> new Long2ObjectOpenHashMap<>());
+        long key = SectionPos.asLong(sx, sy, sz);
+        long[] bits = sections.get(key);
+        if (bits != null) return bits;
+        LevelChunk chunk = level.getChunkSource().getChunkNow(sx, sz);
+        if (chunk == null) return null;
+        bits = build(level, chunk.getSection(level.getSectionIndexFromSectionY(sy)), sx, sy, sz);
+        sections.put(key, bits);
+        return bits;
+    }
+
+    private static long[] build(ServerLevel level, LevelChunkSection section, int sx, int sy, int sz) {
+        if (section.hasOnlyAir()) return EMPTY;
+        long[] bits = new long[WORDS];
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int baseX = SectionPos.sectionToBlockCoord(sx);
+        int baseY = SectionPos.sectionToBlockCoord(sy);
+        int baseZ = SectionPos.sectionToBlockCoord(sz);
+        boolean any = false;
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    BlockState state = section.getBlockState(x, y, z);
+                    if (state.isAir()) continue;
+                    if (state.getCollisionShape(level, pos.set(baseX + x, baseY + y, baseZ + z)).isEmpty()) continue;
+                    int i = bitIndex(x, y, z);
+                    bits[i >> 6] |= 1L << (i & 63);
+                    any = true;
+                }
+            }
+        }
+        return any ? bits : EMPTY;
+    }
+
+    public static boolean isSolid(ServerLevel level, int x, int y, int z) {
+        long[] bits = section(level, x >> 4, y >> 4, z >> 4);
+        if (bits == null) return true;
+        int i = bitIndex(x, y, z);
+        return (bits[i >> 6] & (1L << (i & 63))) != 0;
+    }
+
+    /** True if any block in the inclusive block range is solid (or not loaded). */
+    public static boolean anySolid(ServerLevel level, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+            int y0 = Math.max(minY, sy << 4) & 15;
+            int y1 = Math.min(maxY, (sy << 4) + 15) & 15;
+            for (int sz = minZ >> 4; sz <= maxZ >> 4; sz++) {
+                int z0 = Math.max(minZ, sz << 4) & 15;
+                int z1 = Math.min(maxZ, (sz << 4) + 15) & 15;
+                for (int sx = minX >> 4; sx <= maxX >> 4; sx++) {
+                    long[] bits = section(level, sx, sy, sz);
+                    if (bits == null || bits == FULL) return true;
+                    if (bits == EMPTY) continue;
+                    int x0 = Math.max(minX, sx << 4) & 15;
+                    int x1 = Math.min(maxX, (sx << 4) + 15) & 15;
+                    long rowMask = (x1 - x0 == 15 ? 0xFFFFL : ((1L << (x1 - x0 + 1)) - 1)) << x0;
+                    for (int y = y0; y <= y1; y++) {
+                        for (int z = z0; z <= z1; z++) {
+                            if ((bits[(y << 2) | (z >> 2)] & (rowMask << ((z & 3) << 4))) != 0) return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    public static boolean anySolid(ServerLevel level, AABB box) {
+        return anySolid(level,
+                Mth.floor(box.minX), Mth.floor(box.minY), Mth.floor(box.minZ),
+                Mth.floor(box.maxX - 1.0e-7), Mth.floor(box.maxY - 1.0e-7), Mth.floor(box.maxZ - 1.0e-7));
+    }
+
+    /**
+     * True if {@code box} can move by {@code delta} without overlapping a solid block. The box is
+     * tested at one-block steps along the sweep, ending at the destination.
+     */
+    public static boolean isSweepClear(ServerLevel level, AABB box, Vec3 delta) {
+        int steps = Math.max(1, Mth.ceil(delta.length() / SWEEP_STEP));
+        for (int i = 1; i <= steps; i++) {
+            if (anySolid(level, box.move(delta.scale((double) i / steps)))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * True if the segment passes no solid block. Walks the blocks it crosses (3D DDA) instead of a
+     * block clip; stands in for a COLLIDER raycast where a miss is all that matters.
+     */
+    public static boolean isSegmentClear(ServerLevel level, Vec3 from, Vec3 to) {
+        double dx = to.x - from.x;
+        double dy = to.y - from.y;
+        double dz = to.z - from.z;
+        int x = Mth.floor(from.x), y = Mth.floor(from.y), z = Mth.floor(from.z);
+        int endX = Mth.floor(to.x), endY = Mth.floor(to.y), endZ = Mth.floor(to.z);
+        int stepX = dx > 0 ? 1 : -1, stepY = dy > 0 ? 1 : -1, stepZ = dz > 0 ? 1 : -1;
+        double tDeltaX = dx != 0 ? Math.abs(1.0 / dx) : Double.POSITIVE_INFINITY;
+        double tDeltaY = dy != 0 ? Math.abs(1.0 / dy) : Double.POSITIVE_INFINITY;
+        double tDeltaZ = dz != 0 ? Math.abs(1.0 / dz) : Double.POSITIVE_INFINITY;
+        double tMaxX = dx != 0 ? ((stepX > 0 ? x + 1 : x) - from.x) / dx : Double.POSITIVE_INFINITY;
+        double tMaxY = dy != 0 ? ((stepY > 0 ? y + 1 : y) - from.y) / dy : Double.POSITIVE_INFINITY;
+        double tMaxZ = dz != 0 ? ((stepZ > 0 ? z + 1 : z) - from.z) / dz : Double.POSITIVE_INFINITY;
+
+        int guard = Math.abs(endX - x) + Math.abs(endY - y) + Math.abs(endZ - z) + 1;
+        for (int i = 0; i <= guard; i++) {
+            if (isSolid(level, x, y, z)) return false;
+            if (x == endX && y == endY && z == endZ) return true;
+            if (tMaxX < tMaxY && tMaxX < tMaxZ) {
+                if (tMaxX > 1.0) return true;
+                x += stepX;
+                tMaxX += tDeltaX;
+            } else if (tMaxY < tMaxZ) {
+                if (tMaxY > 1.0) return true;
+                y += stepY;
+                tMaxY += tDeltaY;
+            } else {
+                if (tMaxZ > 1.0) return true;
+                z += stepZ;
+                tMaxZ += tDeltaZ;
+            }
+        }
+        return true;
+    }
+
+    // ===== Maintenance =====
+
+    // Patch the one bit in place; fires for block changes that notify neighbours
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (!(event.getLevel() instanceof Level level) || level.isClientSide) return;
+        Long2ObjectOpenHashMap<long[]> sections = LEVELS.get(level);
+        if (sections == null) return;
+        BlockPos pos = event.getPos();
+        long key = SectionPos.asLong(pos);
+        long[] bits = sections.get(key);
+        if (bits == null) return;
+        BlockState state = event.getState();
+        boolean solid = !state.isAir() && !state.getCollisionShape(level, pos).isEmpty();
+        int i = bitIndex(pos.getX(), pos.getY(), pos.getZ());
+        long bit = 1L << (i & 63);
+        if (((bits[i >> 6] & bit) != 0) == solid) return;
+        if (bits == EMPTY) {
+            bits = bits.clone();
+            sections.put(key, bits);
+        }
+        if (solid) bits[i >> 6] |= bit; else bits[i >> 6] &= ~bit;
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (!(event.getLevel() instanceof Level level) || level.isClientSide) return;
+        Long2ObjectOpenHashMap<long[]> sections = LEVELS.get(level);
+        if (sections == null || sections.isEmpty()) return;
+        ChunkPos cp = event.getChunk().getPos();
+        for (int sy = level.getMinSection(); sy < level.getMaxSection(); sy++) {
+            sections.remove(SectionPos.asLong(cp.x, sy, cp.z));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            LEVELS.remove(level);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.leon.saintsdragons.server.ai.navigation;
+
+import com.leon.saintsdragons.SaintsDragons;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Per-chunk summary of every terrain column, built from the MOTION_BLOCKING heightmap plus one
+ * block read per column: the surface height (first free block above the top motion-blocking
+ * block) and what that top block is. Built lazily the first time a dragon asks about a chunk and
+ * dropped when a block in the chunk changes or the chunk unloads, so repeated terrain questions
+ * (landing spots, flight heights) are array reads instead of block probes. Server thread only.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class DragonTerrainColumns {
+    private DragonTerrainColumns() {}
+
+    // Top block flags
+    public static final byte FLAG_FLUID  = 1;      // top block is open fluid (water, lava) with nothing solid in it
+    public static final byte FLAG_LAVA   = 1 << 1; // fluid is lava
+    public static final byte FLAG_LEAVES = 1 << 2; // top block is leaves (canopy, not ground)
+    public static final byte FLAG_VOID   = 1 << 3; // no motion-blocking block in the column at all
+
+    /** Returned for columns in chunks that are not loaded. */
+    public static final int UNKNOWN = Integer.MIN_VALUE;
+
+    public static final class ChunkColumns {
+        final short[] surfaceY = new short[256];
+        final byte[] flags = new byte[256];
+        // Highest surface per 4x4 block cell, for coarse airspace questions
+        final short[] cellMaxY = new short[16];
+        // Highest surface in the chunk
+        int maxSurfaceY;
+
+        private static int index(int x, int z) {
+            return ((z & 15) << 4) | (x & 15);
+        }
+
+        public int surfaceY(int x, int z) {
+            return surfaceY[index(x, z)];
+        }
+
+        public byte flags(int x, int z) {
+            return flags[index(x, z)];
+        }
+
+        /** Highest surface in the 4x4 block cell containing (x, z). */
+        public int cellMaxY(int x, int z) {
+            return cellMaxY[((z & 15) >> 2 << 2) | ((x & 15) >> 2)];
+        }
+
+        public int maxSurfaceY() {
+            return maxSurfaceY;
+        }
+    }
+
+    private static final Map<Level, Long2ObjectOpenHashMap<ChunkColumns>> LEVELS = new IdentityHashMap<>();
+
+    /**
+     * Column summary for the chunk, building it if needed; null if the chunk isn't loaded (never loads it).
+     */
+    public static ChunkColumns get(ServerLevel level, int chunkX, int chunkZ) {
+        Long2ObjectOpenHashMap<ChunkColumns> chunks = LEVELS.computeIfAbsent(level, l -> new Long2ObjectOpenHashMap<>());
+        long key = ChunkPos.asLong(chunkX, chunkZ);
+        ChunkColumns cols = chunks.get(key);
+        if (cols != null) return cols;
+        LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+        if (chunk == null) return null;
+        cols = build(level, chunk);
+        chunks.put(key, cols);
+        return cols;
+    }
+
+    private static ChunkColumns columnsAt(ServerLevel level, int x, int z) {
+        return get(level, x >> 4, z >> 4);
+    }
+
+    /** First free y above the top motion-blocking block at (x, z), or {@link #UNKNOWN}. */
+    public static int surfaceY(ServerLevel level, int x, int z) {
+        ChunkColumns cols = columnsAt(level, x, z);
+        return cols != null ? cols.surfaceY(x, z) : UNKNOWN;
+    }
+
+    /** Highest surface in the 4x4 block cell containing (x, z), or {@link #UNKNOWN}. */
+    public static int cellMaxY(ServerLevel level, int x, int z) {
+        ChunkColumns cols = columnsAt(level, x, z);
+        return cols != null ? cols.cellMaxY(x, z) : UNKNOWN;
+    }
+
+    /**
+     * Surface at (x, z) when (x, y, z) is in open air at or above it, so the top block really is the
+     * first thing below; {@link #UNKNOWN} when under cover (canopy, cave, overhang) or not loaded.
+     */
+    public static int openSkySurfaceY(ServerLevel level, int x, int y, int z) {
+        int surface = surfaceY(level, x, z);
+        return surface != UNKNOWN && y >= surface ? surface : UNKNOWN;
+    }
+
+    /** Top block flags at (x, z); 0 if the chunk isn't loaded. */
+    public static byte flags(ServerLevel level, int x, int z) {
+        ChunkColumns cols = columnsAt(level, x, z);
+        return cols != null ? cols.flags(x, z) : 0;
+    }
+
+    /**
+     * Surface and flag lookups behind a small interface, so column searches (landing spots) can run
+     * over synthetic terrain in benchmarks as well as over the level cache.
+     */
+    public interface ColumnSource {
+        /** As {@link DragonTerrainColumns#surfaceY(ServerLevel, int, int)}. */
+        int surfaceY(int x, int z);
+
+        /** As {@link DragonTerrainColumns#flags(ServerLevel, int, int)}. */
+        byte flags(int x, int z);
+    }
+
+    /** The level's cached columns as a {@link ColumnSource}. */
+    public static ColumnSource source(ServerLevel level) {
+        return new ColumnSource() {
+            @Override
+            public int surfaceY(int x, int z) {
+                return DragonTerrainColumns.surfaceY(level, x, z);
+            }
+
+            @Override
+            public byte flags(int x, int z) {
+                return DragonTerrainColumns.flags(level, x, z);
+            }
+        };
+    }
+
+    private static ChunkColumns build(ServerLevel level, LevelChunk chunk) {
+        ChunkColumns cols = new ChunkColumns();
+        int minY = level.getMinBuildHeight();
+        int baseX = chunk.getPos().getMinBlockX();
+        int baseZ = chunk.getPos().getMinBlockZ();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int max = minY;
+        Arrays.fill(cols.cellMaxY, (short) minY);
+        for (int z = 0; z < 16; z++) {
+            for (int x = 0; x < 16; x++) {
+                int i = ChunkColumns.index(x, z);
+                // getHeight is the y of the top motion-blocking block
+                int top = chunk.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z);
+                int surface = top + 1;
+                cols.surfaceY[i] = (short) surface;
+                if (surface > max) max = surface;
+                int cell = (z >> 2 << 2) | (x >> 2);
+                if (surface > cols.cellMaxY[cell]) cols.cellMaxY[cell] = (short) surface;
+                if (top < minY) {
+                    cols.flags[i] = FLAG_VOID;
+                    continue;
+                }
+                BlockState state = chunk.getBlockState(pos.set(baseX + x, top, baseZ + z));
+                byte f = 0;
+                var fluid = state.getFluidState();
+                // Waterlogged solids (slabs, stairs) are ground, not fluid
+                if (!fluid.isEmpty() && state.getCollisionShape(chunk, pos).isEmpty()) {
+                    f |= FLAG_FLUID;
+                    if (fluid.is(FluidTags.LAVA)) f |= FLAG_LAVA;
+                }
+                if (state.is(BlockTags.LEAVES)) f |= FLAG_LEAVES;
+                cols.flags[i] = f;
+            }
+        }
+        cols.maxSurfaceY = max;
+        return cols;
+    }
+
+    private static void invalidate(LevelAccessor accessor, BlockPos pos) {
+        if (!(accessor instanceof Level level)) return;
+        Long2ObjectOpenHashMap<ChunkColumns> chunks = LEVELS.get(level);
+        if (chunks != null) {
+            chunks.remove(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        }
+    }
+
+    // Fires for block changes that notify neighbours: player edits, explosions, fluids, growth
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (event.getLevel().isClientSide()) return;
+        invalidate(event.getLevel(), event.getPos());
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (!(event.getLevel() instanceof Level level) || level.isClientSide) return;
+        Long2ObjectOpenHashMap<ChunkColumns> chunks = LEVELS.get(level);
+        if (chunks != null) {
+            chunks.remove(event.getChunk().getPos().toLong());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            LEVELS.remove(level);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.leon.saintsdragons.server.entity.ability;
 
 import com.leon.saintsdragons.server.entity.ability.DragonAbilitySection.*;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.Level;
 import software.bernie.geckolib.animatable.GeoEntity;
@@ -8,10 +9,10 @@ import software.bernie.geckolib.core.animation.AnimationState;
 import software.bernie.geckolib.core.animation.RawAnimation;
 import software.bernie.geckolib.core.object.PlayState;
 
-import java.util.Random;
-
 /**
- * Base dragon ability class with GeckoLib integration
+ * Base dragon ability class with GeckoLib integration.
+ * Instances are pooled per dragon (see DragonEntity#getAbilityInstance) and restarted in
+ * place, so {@link #start()} and each ability's STARTUP section must reset per-use state.
  */
 public abstract class DragonAbility<T extends LivingEntity> {
     private final DragonAbilitySection[] sectionTrack;
@@ -26,7 +27,12 @@ public abstract class DragonAbility<T extends LivingEntity> {
     private boolean isUsing;
     private int cooldownTimer;
 
-    protected Random rand;
+    // Cue dispatch: cursor into the current section's timeline plus one runtime-scheduled cue
+    private int nextCue;
+    private int scheduledCueTick = -1;
+    private int scheduledCueId;
+
+    protected final RandomSource rand; // the user's RandomSource, shared rather than allocated per ability
     protected RawAnimation activeAnimation;
 
     public DragonAbility(DragonAbilityType<T, ? extends DragonAbility<T>> abilityType, T user, 
@@ -35,7 +41,7 @@ public abstract class DragonAbility<T extends LivingEntity> {
         this.user = user;
         this.sectionTrack = sectionTrack;
         this.cooldownMax = cooldownMax;
-        this.rand = new Random();
+        this.rand = user.getRandom();
     }
 
     public DragonAbility(DragonAbilityType<T, ? extends DragonAbility<T>> abilityType, T user, 
@@ -52,6 +58,8 @@ public abstract class DragonAbility<T extends LivingEntity> {
         ticksInUse = 0;
         ticksInSection = 0;
         currentSectionIndex = 0;
+        activeAnimation = null;
+        resetCues();
         isUsing = true;
         beginSection(getSectionTrack()[0]);
     }
@@ -63,6 +71,7 @@ public abstract class DragonAbility<T extends LivingEntity> {
                 return;
             }
 
+            if (!dispatchCues()) return;
             tickUsing();
 
             ticksInUse++;
@@ -127,6 +136,7 @@ public abstract class DragonAbility<T extends LivingEntity> {
         endSection(getCurrentSection());
         currentSectionIndex = sectionIndex;
         ticksInSection = 0;
+        resetCues();
         if (currentSectionIndex >= getSectionTrack().length) {
             complete();
         } else {
@@ -134,8 +144,53 @@ public abstract class DragonAbility<T extends LivingEntity> {
         }
     }
 
+    // ===== CUES =====
+
+    private void resetCues() {
+        nextCue = 0;
+        scheduledCueTick = -1;
+    }
+
+    /**
+     * Fire cues that are due in the current section. Returns false if a cue ended the ability
+     * or moved it to another section, in which case the rest of this tick is skipped.
+     */
+    private boolean dispatchCues() {
+        DragonAbilitySection section = getCurrentSection();
+        if (section == null) return true;
+        int sectionIndex = currentSectionIndex;
+        while (nextCue < section.cueCount() && section.cueTick(nextCue) <= ticksInSection) {
+            onCue(section, section.cueId(nextCue++));
+            if (!isUsing || currentSectionIndex != sectionIndex) return false;
+        }
+        if (scheduledCueTick >= 0 && scheduledCueTick <= ticksInSection) {
+            int cueId = scheduledCueId;
+            scheduledCueTick = -1;
+            onCue(section, cueId);
+            if (!isUsing || currentSectionIndex != sectionIndex) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Fire {@code cueId} after {@code delayTicks} more ticks in the current section, e.g. for
+     * randomized repeats. Only one runtime cue is pending at a time; it is dropped on section change.
+     */
+    protected void scheduleCue(int delayTicks, int cueId) {
+        scheduledCueTick = ticksInSection + Math.max(0, delayTicks);
+        scheduledCueId = cueId;
+    }
+
     // ===== OVERRIDE POINTS =====
 
+    /**
+     * Called for each cue on the current section's timeline (and for scheduled cues),
+     * before tickUsing() on the tick it becomes due.
+     */
+    protected void onCue(DragonAbilitySection section, int cueId) {
+        // Override to handle timeline cues
+    }
+
     public void tickUsing() {
         // Override for ability-specific behavior during use
     }
@@ -1,15 +1,54 @@
 package com.leon.saintsdragons.server.entity.ability;
 
 /**
- * Ability section system for precise timing control
+ * Ability section system for precise timing control.
+ * Sections can carry a cue timeline: one-off events at tick offsets into the section,
+ * dispatched by {@link DragonAbility} to {@code onCue} instead of being polled in tickUsing().
  */
 public abstract class DragonAbilitySection {
     public final AbilitySectionType sectionType;
 
+    // Cue timeline, sorted by tick offset (parallel arrays)
+    private int[] cueTicks = new int[0];
+    private int[] cueIds = new int[0];
+
     public DragonAbilitySection(AbilitySectionType sectionType) {
         this.sectionType = sectionType;
     }
 
+    /**
+     * Add a cue that fires once when this section has run for {@code tick} ticks (0 = first tick).
+     * Returns this so static tracks can declare cues inline.
+     */
+    public DragonAbilitySection cue(int tick, int cueId) {
+        int n = cueTicks.length;
+        int at = n;
+        while (at > 0 && cueTicks[at - 1] > tick) at--;
+        int[] ticks = new int[n + 1];
+        int[] ids = new int[n + 1];
+        System.arraycopy(cueTicks, 0, ticks, 0, at);
+        System.arraycopy(cueIds, 0, ids, 0, at);
+        ticks[at] = Math.max(0, tick);
+        ids[at] = cueId;
+        System.arraycopy(cueTicks, at, ticks, at + 1, n - at);
+        System.arraycopy(cueIds, at, ids, at + 1, n - at);
+        cueTicks = ticks;
+        cueIds = ids;
+        return this;
+    }
+
+    public int cueCount() {
+        return cueTicks.length;
+    }
+
+    public int cueTick(int index) {
+        return cueTicks[index];
+    }
+
+    public int cueId(int index) {
+        return cueIds[index];
+    }
+
     public enum AbilitySectionType {
         STARTUP,    // Windup/preparation phase
         ACTIVE,     // Main action/damage phase
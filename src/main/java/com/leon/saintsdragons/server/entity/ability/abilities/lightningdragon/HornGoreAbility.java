@@ -5,8 +5,6 @@ import com.leon.saintsdragons.server.entity.ability.DragonAbilitySection;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
 import net.minecraft.world.damagesource.DamageSource;
-import net.minecraft.world.entity.ai.attributes.Attributes;
-import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.phys.AABB;
@@ -131,54 +129,19 @@ public class HornGoreAbility extends DragonAbility<LightningDragonEntity> {
 
         float mult = dragon.getDamageMultiplier();
 
-        // Armor penetration: ignore 2 armor points when calculating effective damage
-        float armor = (float) target.getAttributeValue(Attributes.ARMOR);
-        float toughness = (float) target.getAttributeValue(Attributes.ARMOR_TOUGHNESS);
-        float desiredPostArmor = damageAfterArmor(GORE_DAMAGE * mult, Math.max(0f, armor - 2f), toughness);
-
-        // Find a raw damage value which, after the target's ACTUAL armor/toughness, equals desiredPostArmor
-        float rawToDeal = solveRawDamageForPostArmor(desiredPostArmor, armor, toughness);
-        target.hurt(src, rawToDeal);
-        dragon.noteAggroFrom(target);
-
         // Strong directional knockback away from dragon head
         Vec3 look = dragon.getLookAngle().normalize();
         double strength = 1.4; // tune
-        // knockback(strength, x, z): applies horizontal knockback opposite to (x,z)
-        target.knockback((float) strength, -look.x, -look.z);
-
-        // Small vertical lift
-        Vec3 dv = target.getDeltaMovement();
-        target.setDeltaMovement(dv.x, Math.max(dv.y, 0.35), dv.z);
 
+        // Armor penetration: ignore 2 armor points; the damage queue solves the raw amount for the target's real armor.
+        // knockback(strength, x, z): applies horizontal knockback opposite to (x,z); plus a small vertical lift
+        dragon.combatManager.queueDamage(target, src, GORE_DAMAGE * mult)
+                .armorPierce(2f)
+                .knockback((float) strength, -look.x, -look.z)
+                .lift(0.35);
     }
 
     // ===== helpers =====
-    private static float damageAfterArmor(float damage, float armor, float toughness) {
-        // Mirrors vanilla CombatRules.getDamageAfterAbsorb
-        float f = 2.0F + toughness / 4.0F;
-        float reduction = Mth.clamp(armor - damage / f, armor * 0.2F, 20.0F);
-        return damage * (1.0F - reduction / 25.0F);
-    }
-
-    private static float solveRawDamageForPostArmor(float desiredPostArmor, float armor, float toughness) {
-        // Binary search a raw damage amount such that after-armor equals desiredPostArmor
-        // Monotonic increasing, so safe to search
-        float lo = 0.0f;
-        float hi = Math.max(desiredPostArmor + 16.0f, 16.0f); // reasonable starting upper bound
-        // Ensure upper bound is sufficient
-        for (int i = 0; i < 8 && damageAfterArmor(hi, armor, toughness) < desiredPostArmor; i++) {
-            hi *= 2.0f;
-        }
-        // Binary search
-        for (int it = 0; it < 20; it++) { // ~1e-6 relative precision typically
-            float mid = (lo + hi) * 0.5f;
-            float val = damageAfterArmor(mid, armor, toughness);
-            if (val < desiredPostArmor) lo = mid; else hi = mid;
-        }
-        return (lo + hi) * 0.5f;
-    }
-
     private static double distancePointToAABB(Vec3 p, AABB box) {
         double dx = Math.max(Math.max(box.minX - p.x, 0.0), p.x - box.maxX);
         double dy = Math.max(Math.max(box.minY - p.y, 0.0), p.y - box.maxY);
@@ -22,6 +22,17 @@ public class LightningBeamAbility extends DragonAbility<LightningDragonEntity> {
     
     private boolean hasBeamFired = false; // Track if beam has been fired this activation
 
+    // Beam damage per tick of exposure. Victims only take a hit every 10 ticks (vanilla i-frames), so exposure
+    // is accumulated per victim and applied as one hit when they can take it. A victim touched while hittable
+    // is charged at least a full window, so like the old per-tick hurt(35) it takes 35 on contact and 35 per
+    // window after that.
+    private static final float DAMAGE_PER_TICK = 3.5f;
+    private static final int HIT_WINDOW_TICKS = 10;
+    // LivingEntity.hurt rejects hits while invulnerableTime is above half of its 20 tick reset
+    private static final int HITTABLE_INVULN_TIME = 10;
+    private final it.unimi.dsi.fastutil.objects.Reference2FloatOpenHashMap<net.minecraft.world.entity.LivingEntity> exposure =
+            new it.unimi.dsi.fastutil.objects.Reference2FloatOpenHashMap<>();
+
     public LightningBeamAbility(DragonAbilityType<LightningDragonEntity, LightningBeamAbility> type, LightningDragonEntity user) {
         super(type, user, TRACK, 0); // No cooldown; gated by input
     }
@@ -32,12 +43,13 @@ public class LightningBeamAbility extends DragonAbility<LightningDragonEntity> {
         if (section.sectionType == AbilitySectionType.STARTUP) {
             // Reset beam fired flag; play unified animation once at start
             hasBeamFired = false;
+            exposure.clear();
             getUser().setBeaming(false);
             getUser().triggerAnim("action", "lightning_beam");
         } else if (section.sectionType == AbilitySectionType.ACTIVE) {
             // Enter beaming window; visuals/damage enabled during ACTIVE only
             getUser().setBeaming(true);
-            // Initial tick damage alignment (optional single pulse at start)
+            // Aim the beam for the first ACTIVE tick; damage starts in tickUsing
             if (!hasBeamFired) {
                 fireBeamOnce();
                 hasBeamFired = true;
@@ -50,6 +62,9 @@ public class LightningBeamAbility extends DragonAbility<LightningDragonEntity> {
         // When leaving ACTIVE (by interrupt/complete), clear beaming; unified anim handles visuals
         if (section != null && section.sectionType == AbilitySectionType.ACTIVE) {
             getUser().setBeaming(false);
+            // Last chance for leftover exposure; whatever the victims can't take now is dropped
+            applyExposure(getUser());
+            exposure.clear();
         }
     }
 
@@ -58,6 +73,7 @@ public class LightningBeamAbility extends DragonAbility<LightningDragonEntity> {
         // Ensure beaming flag cleared even if interrupted mid-active
         getUser().setBeaming(false);
         hasBeamFired = false; // Reset for next use
+        exposure.clear();
         super.interrupt();
     }
 
@@ -98,17 +114,11 @@ public class LightningBeamAbility extends DragonAbility<LightningDragonEntity> {
         if (start != null && end != null) {
             damageAlongBeam(dragon, start, end);
         }
+        applyExposure(dragon);
     }
 
     private void fireBeamOnce() {
-        LightningDragonEntity dragon = getUser();
-        updateBeamPositions(dragon);
-        
-        var start = dragon.getBeamStartPosition();
-        var end = dragon.getBeamEndPosition();
-        if (start != null && end != null) {
-            damageAlongBeam(dragon, start, end);
-        }
+        updateBeamPositions(getUser());
     }
     
     private void updateBeamPositions(LightningDragonEntity dragon) {
@@ -181,30 +191,49 @@ public class LightningBeamAbility extends DragonAbility<LightningDragonEntity> {
     private void damageAlongBeam(LightningDragonEntity dragon, net.minecraft.world.phys.Vec3 start, net.minecraft.world.phys.Vec3 end) {
         if (!(dragon.level() instanceof net.minecraft.server.level.ServerLevel server)) return;
 
-        final double STEP = 1.0;         // sample spacing
         final double RADIUS = 1.2;       // affect radius around beam core
-        final float DAMAGE = 35.0f;       // Per-tick damage (35 damage per tick for 40 ticks = 1400 total damage OH MY GOODNESS)
 
         var delta = end.subtract(start);
         double len = delta.length();
         if (len < 0.0001) return;
         var dir = delta.scale(1.0 / len);
 
-        java.util.HashSet<net.minecraft.world.entity.LivingEntity> hitThisBeam = new java.util.HashSet<>();
-
-        for (double d = 0; d <= len; d += STEP) {
-            var p = start.add(dir.scale(d));
-            var aabb = new net.minecraft.world.phys.AABB(p, p).inflate(RADIUS);
-            var list = server.getEntitiesOfClass(net.minecraft.world.entity.LivingEntity.class, aabb,
-                    e -> e != dragon && e.isAlive() && e.attackable() && !isAllied(dragon, e));
-            for (var le : list) {
-                if (hitThisBeam.add(le)) {
-                    le.hurt(dragon.level().damageSources().lightningBolt(), DAMAGE);
-                    // Stronger knockback for single hit
-                    var away = le.position().subtract(p).normalize();
-                    le.push(away.x * 0.15, 0.08, away.z * 0.15);
-                    // no-op beyond damage and push
-                }
+        // Broadphase: one query over the whole beam, then an exact segment test per candidate.
+        // Inflating each hitbox by RADIUS and testing the core segment matches the radius around the beam.
+        var bounds = new net.minecraft.world.phys.AABB(start, end).inflate(RADIUS);
+        var list = server.getEntitiesOfClass(net.minecraft.world.entity.LivingEntity.class, bounds,
+                e -> e != dragon && e.isAlive() && e.attackable() && !isAllied(dragon, e)
+                        && com.leon.saintsdragons.util.DragonMathUtil.segmentIntersectsAABB(start, delta, e.getBoundingBox(), RADIUS));
+        for (var le : list) {
+            if (le.invulnerableTime <= HITTABLE_INVULN_TIME) {
+                exposure.put(le, Math.max(exposure.getFloat(le) + DAMAGE_PER_TICK, DAMAGE_PER_TICK * HIT_WINDOW_TICKS));
+            } else {
+                exposure.addTo(le, DAMAGE_PER_TICK);
+            }
+            // Push away from the nearest point on the beam core
+            double t = net.minecraft.util.Mth.clamp(le.position().subtract(start).dot(dir), 0.0, len);
+            var p = start.add(dir.scale(t));
+            var away = le.position().subtract(p).normalize();
+            le.push(away.x * 0.15, 0.08, away.z * 0.15);
+        }
+    }
+
+    /**
+     * Queue accumulated beam damage for every victim that is out of its i-frames, so hurt (and
+     * LivingHurtEvent) only runs when it can land instead of on every tick of exposure.
+     */
+    private void applyExposure(LightningDragonEntity dragon) {
+        if (exposure.isEmpty()) return;
+        var source = dragon.level().damageSources().lightningBolt();
+        var it = exposure.reference2FloatEntrySet().fastIterator();
+        while (it.hasNext()) {
+            var entry = it.next();
+            var le = entry.getKey();
+            if (!le.isAlive()) {
+                it.remove();
+            } else if (le.invulnerableTime <= HITTABLE_INVULN_TIME) {
+                dragon.combatManager.queueDamage(le, source, entry.getFloatValue());
+                it.remove();
             }
         }
     }
@@ -1,11 +1,11 @@
 package com.leon.saintsdragons.server.entity.ability.abilities.lightningdragon;
 
-import com.leon.saintsdragons.common.particle.lightningdragon.LightningStormData;
+import com.leon.saintsdragons.common.network.MessageArcBurst;
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
 import com.leon.saintsdragons.server.entity.ability.DragonAbility;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilitySection;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
-import com.leon.saintsdragons.util.DragonMathUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
@@ -36,6 +36,9 @@ public class LightningBiteAbility extends DragonAbility<LightningDragonEntity> {
     private static final double CHAIN_RADIUS = 7.0;
     private static final int CHAIN_JUMPS = 4;
     private static final float CHAIN_FALLOFF = 0.75f;
+    // Supercharged dragons chain further; the candidate set is gathered once so this costs no extra queries
+    private static final double CHAIN_RADIUS_SUPERCHARGED = 9.0;
+    private static final int CHAIN_JUMPS_SUPERCHARGED = 6;
 
     // Sections: startup (windup), active (hit frame), recovery
     private static final DragonAbilitySection[] TRACK = new DragonAbilitySection[] {
@@ -165,35 +168,109 @@ public class LightningBiteAbility extends DragonAbility<LightningDragonEntity> {
         LightningDragonEntity dragon = getUser();
         DamageSource src = dragon.level().damageSources().mobAttack(dragon);
         float mult = dragon.getDamageMultiplier();
-        primary.hurt(src, BITE_DAMAGE * mult);
-        dragon.noteAggroFrom(primary);
+        dragon.combatManager.queueDamage(primary, src, BITE_DAMAGE * mult);
     }
 
     private void chainFrom(LivingEntity start) {
         LightningDragonEntity dragon = getUser();
-        Set<LivingEntity> hit = new HashSet<>();
-        hit.add(start);
+        boolean supercharged = dragon.isSupercharged();
+        double radius = supercharged ? CHAIN_RADIUS_SUPERCHARGED : CHAIN_RADIUS;
+        int jumps = supercharged ? CHAIN_JUMPS_SUPERCHARGED : CHAIN_JUMPS;
+
+        // One world query bounded by the furthest the chain could possibly travel
+        double reach = radius * jumps;
+        List<LivingEntity> candidates = dragon.level().getEntitiesOfClass(LivingEntity.class,
+                start.getBoundingBox().inflate(reach),
+                e -> e != dragon && e != start && e.isAlive() && e.attackable() && !isAllied(dragon, e));
+        if (candidates.isEmpty()) return;
+        ChainGraph graph = new ChainGraph(candidates, radius);
 
         LivingEntity current = start;
         float damage = CHAIN_DAMAGE_BASE;
 
-        for (int i = 0; i < CHAIN_JUMPS; i++) {
-            LivingEntity next = findNearestChainTarget(current, hit);
+        for (int i = 0; i < jumps; i++) {
+            LivingEntity next = graph.nearestUnvisited(current, dragon);
             if (next == null) break;
 
             // Damage and VFX
             float mult = dragon.getDamageMultiplier();
-            next.hurt(dragon.level().damageSources().lightningBolt(), damage * mult);
-            dragon.noteAggroFrom(next);
+            dragon.combatManager.queueDamage(next, dragon.level().damageSources().lightningBolt(), damage * mult);
             spawnArc(current.position().add(0, current.getBbHeight() * 0.5, 0),
                      next.position().add(0, next.getBbHeight() * 0.5, 0));
 
-            hit.add(next);
             current = next;
             damage *= CHAIN_FALLOFF;
         }
     }
 
+    /**
+     * Chain candidates bucketed into cells at least one jump reach wide, so a jump only looks at the
+     * 3x3x3 cells around the current link. Positions are snapshotted when the bite lands;
+     * the whole chain resolves within that tick.
+     */
+    private static final class ChainGraph {
+        private final double radius;
+        private final double cellSize;
+        private final Long2ObjectOpenHashMap<List<LivingEntity>> cells = new Long2ObjectOpenHashMap<>();
+        private final Set<LivingEntity> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        ChainGraph(List<LivingEntity> candidates, double radius) {
+            this.radius = radius;
+            // Reach grows with target width, so size cells by the widest candidate
+            float maxWidth = 0f;
+            for (LivingEntity e : candidates) {
+                maxWidth = Math.max(maxWidth, e.getBbWidth());
+            }
+            this.cellSize = radius + maxWidth / 2f;
+            for (LivingEntity e : candidates) {
+                cells.computeIfAbsent(cellKey(e.getX(), e.getY(), e.getZ()), k -> new ArrayList<>(2)).add(e);
+            }
+        }
+
+        private int cell(double v) {
+            return Mth.floor(v / cellSize);
+        }
+
+        private long cellKey(double x, double y, double z) {
+            return cellKey(cell(x), cell(y), cell(z));
+        }
+
+        private static long cellKey(int cx, int cy, int cz) {
+            // 21 bits per axis is plenty for world coordinates divided by the cell size
+            return ((long) (cx & 0x1FFFFF) << 42) | ((long) (cy & 0x1FFFFF) << 21) | (cz & 0x1FFFFF);
+        }
+
+        /** Nearest unvisited candidate within jump range of {@code origin} that the dragon can see; marks it visited. */
+        LivingEntity nearestUnvisited(LivingEntity origin, LightningDragonEntity dragon) {
+            int ox = cell(origin.getX());
+            int oy = cell(origin.getY());
+            int oz = cell(origin.getZ());
+            LivingEntity best = null;
+            double bestDist = Double.MAX_VALUE;
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        List<LivingEntity> cell = cells.get(cellKey(ox + dx, oy + dy, oz + dz));
+                        if (cell == null) continue;
+                        for (LivingEntity e : cell) {
+                            if (e == origin || visited.contains(e) || !e.isAlive()) continue;
+                            // Same reach as the per-jump query this replaces: radius plus half the target's width
+                            double reach = radius + e.getBbWidth() / 2f;
+                            double d = e.distanceToSqr(origin);
+                            if (d > reach * reach || d >= bestDist) continue;
+                            // Optional LOS check for coherence
+                            if (!dragon.getSensing().hasLineOfSight(e)) continue;
+                            bestDist = d;
+                            best = e;
+                        }
+                    }
+                }
+            }
+            if (best != null) visited.add(best);
+            return best;
+        }
+    }
+
     // ===== Geometry helpers =====
     private static double distancePointToAABB(Vec3 p, AABB box) {
         double dx = Math.max(Math.max(box.minX - p.x, 0.0), p.x - box.maxX);
@@ -245,24 +322,6 @@ public class LightningBiteAbility extends DragonAbility<LightningDragonEntity> {
         return best;
     }
 
-    private LivingEntity findNearestChainTarget(LivingEntity origin, Set<LivingEntity> exclude) {
-        LightningDragonEntity dragon = getUser();
-        List<LivingEntity> nearby = DragonMathUtil.getEntitiesNearby(origin, LivingEntity.class, CHAIN_RADIUS);
-        LivingEntity best = null;
-        double bestDist = Double.MAX_VALUE;
-        for (LivingEntity e : nearby) {
-            if (e == dragon || exclude.contains(e) || !e.isAlive() || !e.attackable() || isAllied(dragon, e)) continue;
-            double d = e.distanceToSqr(origin);
-            if (d < bestDist) {
-                // Optional LOS check for coherence
-                if (!dragon.getSensing().hasLineOfSight(e)) continue;
-                bestDist = d;
-                best = e;
-            }
-        }
-        return best;
-    }
-
     private boolean isAllied(LightningDragonEntity dragon, Entity other) {
         if (other instanceof LightningDragonEntity od) {
             return dragon.isTame() && od.isTame() && dragon.getOwner() != null && dragon.getOwner().equals(od.getOwner());
@@ -276,19 +335,8 @@ public class LightningBiteAbility extends DragonAbility<LightningDragonEntity> {
 
     private void spawnArc(Vec3 from, Vec3 to) {
         if (!(getLevel() instanceof ServerLevel server)) return;
-        // Spawn a simple electric spark trail along the segment
-        Vec3 delta = to.subtract(from);
-        int steps = Math.max(3, (int) (delta.length() * 6));
-        Vec3 step = delta.scale(1.0 / steps);
-        Vec3 pos = from;
-        Vec3 dir = step.normalize();
-        float size = 1.0f;
-        for (int i = 0; i <= steps; i++) {
-            // Use custom animated lightning sprite for richer arc visuals
-            server.sendParticles(new LightningStormData(size),
-                    pos.x, pos.y, pos.z,
-                    1, dir.x, dir.y, dir.z, 0.0);
-            pos = pos.add(step);
-        }
+        // Single arc-burst packet; clients spawn the sprite trail along the segment
+        MessageArcBurst.send(server, MessageArcBurst.segment(from, to,
+                MessageArcBurst.PARTICLE_STORM, 1.0f, getUser().getRandom().nextLong()));
     }
 }
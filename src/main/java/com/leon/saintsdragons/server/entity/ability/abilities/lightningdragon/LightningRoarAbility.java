@@ -1,11 +1,12 @@
 package com.leon.saintsdragons.server.entity.ability.abilities.lightningdragon;
 
-import com.leon.saintsdragons.common.particle.lightningdragon.LightningArcData;
-import com.leon.saintsdragons.common.particle.lightningdragon.LightningStormData;
+import com.leon.saintsdragons.common.network.MessageArcBurst;
+import com.leon.saintsdragons.common.network.MessageLightningStrike;
 import com.leon.saintsdragons.server.entity.ability.DragonAbility;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilitySection;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
+import com.leon.saintsdragons.server.entity.handler.DragonTargetIndex;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.phys.Vec3;
 
@@ -19,17 +20,25 @@ public class LightningRoarAbility extends DragonAbility<LightningDragonEntity> {
 
     // Brief startup to sync with animation pose, a short active window
     // so the ability keeps itself alive while the clip plays, then recover.
+    private static final int ROAR_DELAY_TICKS = 3;   // ~0.15s (closest to 0.17s at 20 TPS)
+    private static final int ROAR_TOTAL_TICKS = 69;  // ~3.45s (animation length ~3.4167s)
+
+    // Cues
+    private static final int CUE_ROAR_SOUND = 0;
+    private static final int CUE_STRIKE = 1;
+
     private static final DragonAbilitySection[] TRACK = new DragonAbilitySection[] {
-            new AbilitySectionDuration(AbilitySectionType.STARTUP, 6),
-            new AbilitySectionDuration(AbilitySectionType.ACTIVE, 28),
+            // Roar sound slightly delayed to sync with mouth opening
+            new AbilitySectionDuration(AbilitySectionType.STARTUP, 6).cue(ROAR_DELAY_TICKS, CUE_ROAR_SOUND),
+            // First strike as soon as ACTIVE begins; later strikes reschedule themselves
+            new AbilitySectionDuration(AbilitySectionType.ACTIVE, 28).cue(0, CUE_STRIKE),
             new AbilitySectionDuration(AbilitySectionType.RECOVERY, 12)
     };
 
-    private boolean roarQueued = false;
-    private static final int ROAR_DELAY_TICKS = 3;   // ~0.15s (closest to 0.17s at 20 TPS)
-    private static final int ROAR_TOTAL_TICKS = 69;  // ~3.45s (animation length ~3.4167s)
+    // Vanilla lightning bolt damage
+    private static final float STRIKE_DAMAGE = 5.0f;
+
     private int strikesLeft = 0;
-    private int strikeCooldown = 0;
     private java.util.List<Integer> targetIds = java.util.Collections.emptyList();
     private int targetCursor = 0;
 
@@ -46,8 +55,6 @@ public class LightningRoarAbility extends DragonAbility<LightningDragonEntity> {
             String trigger = flying ? "roar_air" : "roar_ground";
             // Trigger the action animation immediately
             getUser().triggerAnim("action", trigger);
-            // Queue the roar sound slightly delayed to sync with mouth opening
-            roarQueued = true;
             // Lock takeoff only on ground, but allow running and other controls.
             // While flying, allow normal controls (including ascend/descend) during roar.
             if (!getUser().isFlying()) {
@@ -62,34 +69,23 @@ public class LightningRoarAbility extends DragonAbility<LightningDragonEntity> {
             } else {
                 strikesLeft = 2 + getUser().getRandom().nextInt(2); // 2-3 strikes
             }
-            strikeCooldown = 0; // strike asap when ACTIVE begins
         }
     }
 
     @Override
-    public void tickUsing() {
-        var section = getCurrentSection();
-        if (section == null) return;
-
-        // Play the roar sound after a tiny delay from animation start
-        if (section.sectionType == AbilitySectionType.STARTUP && roarQueued) {
-            if (getTicksInSection() >= ROAR_DELAY_TICKS && !getUser().level().isClientSide) {
-                // Play only the sound (avoid retriggering the animation)
-                var dragon = getUser();
-                float pitch = 0.9f + dragon.getRandom().nextFloat() * 0.15f;
-                dragon.playSound(com.leon.saintsdragons.common.registry.ModSounds.DRAGON_ROAR.get(), 1.4f, pitch);
-                roarQueued = false;
-            }
-        }
-
-        // During ACTIVE section, spawn lightning strikes at the selected target
-        if (section.sectionType == AbilitySectionType.ACTIVE && strikesLeft > 0 && !getUser().level().isClientSide) {
-            if (strikeCooldown > 0) {
-                strikeCooldown--;
-            } else {
-                spawnLightningStrike();
-                strikesLeft--;
-                strikeCooldown = 6 + getUser().getRandom().nextInt(6); // 0.3s to 0.6s between strikes
+    protected void onCue(DragonAbilitySection section, int cueId) {
+        if (getUser().level().isClientSide) return;
+        var dragon = getUser();
+        if (cueId == CUE_ROAR_SOUND) {
+            // Play only the sound (avoid retriggering the animation)
+            float pitch = 0.9f + dragon.getRandom().nextFloat() * 0.15f;
+            dragon.playSound(com.leon.saintsdragons.common.registry.ModSounds.DRAGON_ROAR.get(), 1.4f, pitch);
+        } else if (cueId == CUE_STRIKE && strikesLeft > 0) {
+            // Spawn a lightning strike at the next selected target
+            spawnLightningStrike();
+            strikesLeft--;
+            if (strikesLeft > 0) {
+                scheduleCue(7 + dragon.getRandom().nextInt(6), CUE_STRIKE); // 0.3s to 0.6s between strikes
             }
         }
     }
@@ -99,12 +95,18 @@ public class LightningRoarAbility extends DragonAbility<LightningDragonEntity> {
         net.minecraft.world.entity.LivingEntity rider = dragon.getControllingPassenger();
 
         java.util.Set<Integer> ids = new java.util.LinkedHashSet<>();
-        if (dragon.level() instanceof net.minecraft.server.level.ServerLevel server) {
+        if (dragon.level() instanceof net.minecraft.server.level.ServerLevel) {
+            // Mobs chasing the dragon or its rider, from the target index rather than a world scan
             var box = dragon.getBoundingBox().inflate(24.0);
-            var chasers = server.getEntitiesOfClass(net.minecraft.world.entity.Mob.class, box, m -> {
-                var t = m.getTarget();
-                return m.isAlive() && (t == dragon || (rider != null && t == rider));
-            });
+            var chasers = new java.util.ArrayList<net.minecraft.world.entity.Mob>();
+            for (var m : DragonTargetIndex.getAttackers(dragon)) {
+                if (box.intersects(m.getBoundingBox())) chasers.add(m);
+            }
+            if (rider != null) {
+                for (var m : DragonTargetIndex.getAttackers(rider)) {
+                    if (box.intersects(m.getBoundingBox())) chasers.add(m);
+                }
+            }
             // Sort by distance ascending
             chasers.sort(java.util.Comparator.comparingDouble(m -> m.distanceToSqr(dragon)));
             for (var m : chasers) ids.add(m.getId());
@@ -141,16 +143,8 @@ public class LightningRoarAbility extends DragonAbility<LightningDragonEntity> {
         double z = target.getZ() + oz;
         double y = target.getY();
 
-        // Spawn the vanilla lightning bolt entity for visuals + damage
-        var bolt = net.minecraft.world.entity.EntityType.LIGHTNING_BOLT.create(server);
-        if (bolt != null) {
-            bolt.moveTo(x, y, z);
-            var owner = dragon.getOwner();
-            if (owner instanceof net.minecraft.server.level.ServerPlayer sp) {
-                bolt.setCause(sp);
-            }
-            server.addFreshEntity(bolt);
-        }
+        // Entity-less strike: damage applied here, bolt visual + thunder played by nearby clients
+        strikeAt(server, x, y, z);
 
         // Electrocute visuals: spawn several short arcs around the target itself
         spawnElectrocuteArcs(server, target);
@@ -158,61 +152,40 @@ public class LightningRoarAbility extends DragonAbility<LightningDragonEntity> {
         applyStun(target); // ~1.5s
     }
 
+    /**
+     * Stand-in for a vanilla LightningBolt: same strike volume and damage, but no ticking entity,
+     * fire or level-wide thunder. Damage uses the plain lightningBolt source like the bolt did, so kill
+     * credit (and XP) is unchanged; the bolt's cause only ever fed the channeling advancement.
+     * The dragon, its rider and its allies are spared.
+     */
+    private void strikeAt(ServerLevel server, double x, double y, double z) {
+        LightningDragonEntity dragon = getUser();
+        var rider = dragon.getControllingPassenger();
+        var volume = new net.minecraft.world.phys.AABB(x - 3.0, y - 3.0, z - 3.0, x + 3.0, y + 6.0 + 3.0, z + 3.0);
+        var victims = server.getEntitiesOfClass(net.minecraft.world.entity.LivingEntity.class, volume,
+                e -> e != dragon && e != rider && e.isAlive() && !dragon.isAlliedTo(e)
+                        && !(dragon.isTame() && e == dragon.getOwner()));
+        var source = server.damageSources().lightningBolt();
+        for (var le : victims) {
+            dragon.combatManager.queueDamage(le, source, STRIKE_DAMAGE);
+        }
+        MessageLightningStrike.send(server, new MessageLightningStrike(x, y, z));
+    }
+
     private void spawnArc(Vec3 from, Vec3 to) {
         if (!(getLevel() instanceof ServerLevel server)) return;
-        Vec3 delta = to.subtract(from);
-        int steps = Math.max(3, (int) (delta.length() * 6));
-        Vec3 step = delta.scale(1.0 / steps);
-        Vec3 pos = from;
-        Vec3 dir = step.normalize();
-        float size = 1.1f;
-        for (int i = 0; i <= steps; i++) {
-            server.sendParticles(new LightningStormData(size),
-                    pos.x, pos.y, pos.z,
-                    1, dir.x, dir.y, dir.z, 0.0);
-            pos = pos.add(step);
-        }
+        MessageArcBurst.send(server, MessageArcBurst.segment(from, to,
+                MessageArcBurst.PARTICLE_STORM, 1.1f, getUser().getRandom().nextLong()));
     }
 
     private void spawnElectrocuteArcs(ServerLevel server, net.minecraft.world.entity.LivingEntity target) {
         LightningDragonEntity dragon = getUser();
-        java.util.Random rnd = new java.util.Random(dragon.getRandom().nextLong());
         Vec3 center = target.position().add(0, target.getBbHeight() * 0.5, 0);
         double radius = Math.max(target.getBoundingBox().getXsize(), target.getBoundingBox().getZsize()) * 0.6;
         int count = 6 + dragon.getRandom().nextInt(5); // 6-10 short arcs
-        for (int i = 0; i < count; i++) {
-            // Pick two random directions on a sphere and radii within the body radius
-            Vec3 a = randomUnit(rnd).scale(radius * (0.4 + rnd.nextDouble() * 0.6));
-            Vec3 b = randomUnit(rnd).scale(radius * (0.4 + rnd.nextDouble() * 0.6));
-            Vec3 from = center.add(a);
-            Vec3 to = center.add(b);
-            spawnRoarArc(server, from, to);
-        }
-    }
-
-    private void spawnRoarArc(ServerLevel server, Vec3 from, Vec3 to) {
-        Vec3 delta = to.subtract(from);
-        int steps = Math.max(3, (int) (delta.length() * 6));
-        Vec3 step = delta.scale(1.0 / steps);
-        Vec3 pos = from;
-        Vec3 dir = step.normalize();
-        float size = 1.1f;
-        for (int i = 0; i <= steps; i++) {
-            server.sendParticles(new LightningArcData(size),
-                    pos.x, pos.y, pos.z,
-                    1, dir.x, dir.y, dir.z, 0.0);
-            pos = pos.add(step);
-        }
-    }
-
-    private static Vec3 randomUnit(java.util.Random rnd) {
-        // Uniform random unit vector
-        double u = rnd.nextDouble();
-        double v = rnd.nextDouble();
-        double theta = 2 * Math.PI * u;
-        double z = 2 * v - 1; // [-1,1]
-        double r = Math.sqrt(1 - z * z);
-        return new Vec3(r * Math.cos(theta), z, r * Math.sin(theta));
+        // One packet; clients rebuild the arcs from the seed
+        MessageArcBurst.send(server, MessageArcBurst.cluster(center, radius, count,
+                MessageArcBurst.PARTICLE_ARC, 1.1f, dragon.getRandom().nextLong()));
     }
 
 private static void applyStun(net.minecraft.world.entity.LivingEntity target) {
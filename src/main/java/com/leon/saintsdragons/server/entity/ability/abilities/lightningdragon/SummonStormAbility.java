@@ -4,21 +4,22 @@ import com.leon.saintsdragons.server.entity.ability.DragonAbility;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilitySection;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
+import com.leon.saintsdragons.server.entity.handler.DragonStormCells;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.storage.ServerLevelData;
 import net.minecraft.sounds.SoundEvents;
 
 import static com.leon.saintsdragons.server.entity.ability.DragonAbilitySection.*;
 
 /**
  * Ultimate: Summon Storm
- * - Roars into the sky, triggers a thunderstorm in the current dimension
+ * - Roars into the sky, raises a localized storm cell around the dragon
  * - Supercharges the dragon for 2 minutes: x2 damage on abilities
  * - Cooldown: 4 minutes
  */
 public class SummonStormAbility extends DragonAbility<LightningDragonEntity> {
     private static final int SUPERCHARGE_TICKS = 20 * 120; // 120s
     private static final int COOLDOWN_TICKS = 20 * 240; // 240s
+    private static final float STORM_RADIUS = 64.0f;
 
     private static final DragonAbilitySection[] TRACK = new DragonAbilitySection[] {
             new AbilitySectionDuration(AbilitySectionType.STARTUP, 120), // 6s windup (i-frames)
@@ -53,15 +54,9 @@ public class SummonStormAbility extends DragonAbility<LightningDragonEntity> {
                 // Apply supercharge
                 getUser().startSupercharge(SUPERCHARGE_TICKS);
 
-                // Force thunderstorm in this dimension for ~2 minutes
+                // Local storm around the dragon for ~2 minutes; the rest of the dimension keeps its weather
                 if (getLevel() instanceof ServerLevel server) {
-                    var ld = server.getLevelData();
-                    if (ld instanceof ServerLevelData data) {
-                        data.setRaining(true);
-                        data.setRainTime(SUPERCHARGE_TICKS);
-                        data.setThundering(true);
-                        data.setThunderTime(SUPERCHARGE_TICKS);
-                    }
+                    DragonStormCells.summon(server, getUser().getX(), getUser().getZ(), STORM_RADIUS, SUPERCHARGE_TICKS);
 
                     // Dramatic thunder sound cue
                     server.playSound(null, getUser().blockPosition(), SoundEvents.LIGHTNING_BOLT_THUNDER,
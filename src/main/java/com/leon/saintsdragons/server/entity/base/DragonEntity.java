@@ -2,6 +2,7 @@
 
 package com.leon.saintsdragons.server.entity.base;
 
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
 import com.leon.saintsdragons.server.entity.ability.DragonAbility;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 import net.minecraft.nbt.CompoundTag;
@@ -35,6 +36,8 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
     
     // Dragon ability system (lightweight base – no global cooldown here)
     private DragonAbility<?> activeAbility = null;
+    // One instance per ability type, indexed by AbilityRegistry id; created on first use, then restarted in place
+    private DragonAbility<?>[] abilitySlots = new DragonAbility<?>[0];
     
     protected DragonEntity(EntityType<? extends TamableAnimal> entityType, Level level) {
         super(entityType, level);
@@ -83,9 +86,7 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
     public <T extends DragonEntity> void tryActivateAbility(DragonAbilityType<T, ?> abilityType) {
         if (!canUseAbility()) return;
         
-        @SuppressWarnings("unchecked")
-        T castedThis = (T) this;
-        DragonAbility<T> ability = abilityType.makeInstance(castedThis);
+        DragonAbility<T> ability = getAbilityInstance(abilityType);
         
         if (ability.tryAbility()) {
             setActiveAbility(ability);
@@ -93,6 +94,28 @@ public abstract class DragonEntity extends TamableAnimal implements GeoEntity {
         }
     }
 
+    /**
+     * This dragon's pooled instance of the given ability type. Callers must only (re)start it
+     * when it is not already running.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends DragonEntity> DragonAbility<T> getAbilityInstance(DragonAbilityType<T, ?> abilityType) {
+        int id = AbilityRegistry.getId(abilityType);
+        if (id < 0) {
+            // Unregistered type: nowhere to pool it
+            return abilityType.makeInstance((T) this);
+        }
+        if (id >= abilitySlots.length) {
+            abilitySlots = java.util.Arrays.copyOf(abilitySlots, id + 1);
+        }
+        DragonAbility<?> ability = abilitySlots[id];
+        if (ability == null) {
+            ability = abilityType.makeInstance((T) this);
+            abilitySlots[id] = ability;
+        }
+        return (DragonAbility<T>) ability;
+    }
+
     /**
      * Trigger an animation on this entity.
      * Override in subclasses to provide proper animation handling.
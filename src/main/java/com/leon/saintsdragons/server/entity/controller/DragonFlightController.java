@@ -1,5 +1,6 @@
 package com.leon.saintsdragons.server.entity.controller;
 
+import com.leon.saintsdragons.server.ai.navigation.DragonTerrainColumns;
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.util.Mth;
@@ -25,6 +26,11 @@ public class DragonFlightController {
     private static final int TAKEOFF_TIME_THRESHOLD = 30;
     private static final int LANDING_TIME_THRESHOLD = 40;
 
+    // Landing ring (2..10 blocks) as dx, dz pairs sorted by distance, row order within a distance
+    private static final int[] LANDING_OFFSETS = landingOffsets(2, 10);
+    private static final int[] NEIGHBOUR_DX = {1, -1, 0, 0};
+    private static final int[] NEIGHBOUR_DZ = {0, 0, 1, -1};
+
     public DragonFlightController(LightningDragonEntity dragon) {
         this.dragon = dragon;
     }
@@ -80,64 +86,77 @@ public class DragonFlightController {
     }
 
     private net.minecraft.core.BlockPos findSafeLandingSpot(BlockPos center) {
-        var level = dragon.level();
-        // Spiral/ring search: radii 2..radius, angle steps ~16
-        for (int r = 2; r <= 10; r += 2) {
-            for (int step = 0; step < 16; step++) {
-                double ang = (Math.PI * 2.0) * (step / 16.0);
-                int x = center.getX() + (int) Math.round(Math.cos(ang) * r);
-                int z = center.getZ() + (int) Math.round(Math.sin(ang) * r);
-                // Probe vertical: find first solid below with air headroom
-                int startY = center.getY() + 6; // allow slight uphill landing
-                int minY = center.getY() - 8;
-                for (int y = startY; y >= minY; y--) {
-                    var pos = new net.minecraft.core.BlockPos(x, y, z);
-                    var below = pos.below();
-                    var bsBelow = level.getBlockState(below);
-                    var bsAt = level.getBlockState(pos);
-                    boolean solidBelow = !bsBelow.isAir() && !bsBelow.getCollisionShape(level, below).isEmpty();
-                    boolean freeAt = bsAt.getCollisionShape(level, pos).isEmpty();
-                    boolean fluidOk = bsAt.getFluidState().isEmpty();
-                    if (solidBelow && freeAt && fluidOk && isFlatEnough(pos)) {
-                        return pos;
-                    }
-                }
+        if (!(dragon.level() instanceof net.minecraft.server.level.ServerLevel level)) return null;
+        return findSafeLandingSpot(DragonTerrainColumns.source(level), center);
+    }
+
+    static net.minecraft.core.BlockPos findSafeLandingSpot(DragonTerrainColumns.ColumnSource columns, BlockPos center) {
+        // Ring 2..10 blocks around center, surface allowed from 8 below to 6 above (slight uphill landing).
+        // Surfaces come from the cached heightmap columns; no block probes here.
+        int minY = center.getY() - 8;
+        int maxY = center.getY() + 6;
+        int bestX = 0, bestY = 0, bestZ = 0;
+        double bestScore = Double.MAX_VALUE;
+        for (int i = 0; i < LANDING_OFFSETS.length; i += 2) {
+            int dx = LANDING_OFFSETS[i];
+            int dz = LANDING_OFFSETS[i + 1];
+            double dist = Math.sqrt(dx * dx + dz * dz);
+            // Offsets are nearest first and roughness only adds, so nothing further out can win
+            if (dist >= bestScore) break;
+            int x = center.getX() + dx;
+            int z = center.getZ() + dz;
+            int y = columns.surfaceY(x, z);
+            if (y == DragonTerrainColumns.UNKNOWN || y < minY || y > maxY) continue;
+            // Dry, solid, not a canopy
+            if (columns.flags(x, z) != 0) continue;
+            int roughness = roughness(columns, x, y, z);
+            if (roughness < 0) continue;
+            // Prefer near and flat
+            double score = dist + roughness * 1.5;
+            if (score < bestScore) {
+                bestScore = score;
+                bestX = x;
+                bestY = y;
+                bestZ = z;
             }
         }
-        return null;
+        return bestScore < Double.MAX_VALUE ? new net.minecraft.core.BlockPos(bestX, bestY, bestZ) : null;
     }
 
-    private boolean isFlatEnough(net.minecraft.core.BlockPos pos) {
-        // Check neighboring heights are within 1 block
-        var level = dragon.level();
-        int y = pos.getY();
-        int[] dx = {1, -1, 0, 0};
-        int[] dz = {0, 0, 1, -1};
-        for (int i = 0; i < 4; i++) {
-            var p = pos.offset(dx[i], 0, dz[i]);
-            int ny = surfaceYAt(p);
-            if (Math.abs(ny - y) > 1) return false;
-            // Avoid leaves/water/lava as landing base
-            var below = new net.minecraft.core.BlockPos(p.getX(), ny - 1, p.getZ());
-            var st = level.getBlockState(below);
-            if (!st.getFluidState().isEmpty()) return false;
-        }
-        return true;
+    private static int[] landingOffsets(int minR, int maxR) {
+        java.util.List<int[]> offsets = new java.util.ArrayList<>();
+        for (int dz = -maxR; dz <= maxR; dz++) {
+            for (int dx = -maxR; dx <= maxR; dx++) {
+                int d2 = dx * dx + dz * dz;
+                if (d2 >= minR * minR && d2 <= maxR * maxR) offsets.add(new int[] {dx, dz});
+            }
+        }
+        offsets.sort(java.util.Comparator.comparingInt(o -> o[0] * o[0] + o[1] * o[1]));
+        int[] flat = new int[offsets.size() * 2];
+        for (int i = 0; i < offsets.size(); i++) {
+            flat[i * 2] = offsets.get(i)[0];
+            flat[i * 2 + 1] = offsets.get(i)[1];
+        }
+        return flat;
     }
 
-    private int surfaceYAt(net.minecraft.core.BlockPos pos) {
-        var level = dragon.level();
-        int y = pos.getY();
-        for (int dy = 0; dy <= 6; dy++) {
-            var p = new net.minecraft.core.BlockPos(pos.getX(), y - dy, pos.getZ());
-            var below = p.below();
-            var bsBelow = level.getBlockState(below);
-            var bsAt = level.getBlockState(p);
-            if (!bsBelow.isAir() && !bsBelow.getCollisionShape(level, below).isEmpty() && bsAt.getCollisionShape(level, p).isEmpty()) {
-                return p.getY();
-            }
+    /**
+     * Sum of height differences to the four neighbouring surfaces, or -1 if any neighbour is more
+     * than a block off, wet or unknown.
+     */
+    private static int roughness(DragonTerrainColumns.ColumnSource columns, int x, int y, int z) {
+        int total = 0;
+        for (int i = 0; i < 4; i++) {
+            int nx = x + NEIGHBOUR_DX[i];
+            int nz = z + NEIGHBOUR_DZ[i];
+            int ny = columns.surfaceY(nx, nz);
+            if (ny == DragonTerrainColumns.UNKNOWN) return -1;
+            int diff = Math.abs(ny - y);
+            if (diff > 1) return -1;
+            if ((columns.flags(nx, nz) & DragonTerrainColumns.FLAG_FLUID) != 0) return -1;
+            total += diff;
         }
-        return y;
+        return total;
     }
     /**
      * Forces aggressive landing for combat situations
@@ -0,0 +1,105 @@
+package com.leon.saintsdragons.server.entity.controller;
+
+import com.leon.saintsdragons.server.entity.dragons.lightningdragon.DragonTickState;
+import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
+import net.minecraft.world.entity.player.Player;
+
+/**
+ * Distance-tiered tick scheduler for the Lightning Dragon (server only).
+ * Buckets the dragon by distance to the nearest player and decides which of the
+ * expensive per-tick stages run this tick. Anything airborne, ridden, engaged or
+ * mid-transition is pinned to FULL so flight/landing logic never runs at a reduced rate.
+ */
+public class DragonTickLodController {
+    private final LightningDragonEntity dragon;
+
+    // How often the nearest-player distance is re-evaluated
+    private static final int EVAL_INTERVAL = 20;
+
+    public enum Stage { PHYSICS, FLIGHT, ANIM_SYNC, AMBIENT, VFX }
+
+    /**
+     * Per-tier stage intervals in ticks; 0 means the stage is skipped entirely.
+     * Particles are only delivered within 32 blocks, so VFX stops past FULL.
+     */
+    public enum Tier {
+        FULL(32.0,     1, 1, 1,  1, 1),
+        REDUCED(64.0,  1, 1, 2,  1, 0),
+        DISTANT(128.0, 4, 4, 4,  0, 0),
+        DORMANT(Double.MAX_VALUE, 10, 10, 20, 0, 0);
+
+        private final double maxDistSqr;
+        private final int physics;
+        private final int flight;
+        private final int animSync;
+        private final int ambient;
+        private final int vfx;
+
+        Tier(double maxDist, int physics, int flight, int animSync, int ambient, int vfx) {
+            this.maxDistSqr = maxDist == Double.MAX_VALUE ? Double.MAX_VALUE : maxDist * maxDist;
+            this.physics = physics;
+            this.flight = flight;
+            this.animSync = animSync;
+            this.ambient = ambient;
+            this.vfx = vfx;
+        }
+
+        int interval(Stage stage) {
+            return switch (stage) {
+                case PHYSICS -> physics;
+                case FLIGHT -> flight;
+                case ANIM_SYNC -> animSync;
+                case AMBIENT -> ambient;
+                case VFX -> vfx;
+            };
+        }
+
+        static Tier forDistanceSqr(double distSqr) {
+            for (Tier tier : values()) {
+                if (distSqr <= tier.maxDistSqr) return tier;
+            }
+            return DORMANT;
+        }
+    }
+
+    private Tier distanceTier = Tier.FULL;
+    private Tier tier = Tier.FULL;
+
+    public DragonTickLodController(LightningDragonEntity dragon) {
+        this.dragon = dragon;
+    }
+
+    /**
+     * Refresh the tier for this tick. Must run before any gated stage.
+     */
+    public void tick(DragonTickState state) {
+        if (dragon.level().isClientSide) {
+            tier = Tier.FULL;
+            return;
+        }
+        // Stagger the distance scan across dragons so they don't all search players on the same tick
+        if ((dragon.tickCount + dragon.getId()) % EVAL_INTERVAL == 0) {
+            Player nearest = dragon.level().getNearestPlayer(dragon, -1.0D);
+            distanceTier = nearest == null ? Tier.DORMANT : Tier.forDistanceSqr(nearest.distanceToSqr(dragon));
+        }
+        tier = isPinnedToFull(state) ? Tier.FULL : distanceTier;
+    }
+
+    public boolean shouldRun(Stage stage) {
+        int interval = tier.interval(stage);
+        if (interval <= 0) return false;
+        if (interval == 1) return true;
+        return (dragon.tickCount + dragon.getId()) % interval == 0;
+    }
+
+    /**
+     * Any state where skipping a tick could desync flight flags, navigation or combat timing.
+     */
+    private boolean isPinnedToFull(DragonTickState state) {
+        return state.airborneOrTransitioning() || state.vehicle() || state.dying() || state.sleepTransitioning()
+                || !dragon.onGround() || dragon.isInWaterOrBubble() || dragon.isInLava() || dragon.isPassenger()
+                || dragon.getTarget() != null || dragon.isDodging()
+                || dragon.getActiveAbility() != null || dragon.areRiderControlsLocked()
+                || dragon.getRiderTakeoffTicks() > 0;
+    }
+}
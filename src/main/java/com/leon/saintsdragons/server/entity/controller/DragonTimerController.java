@@ -0,0 +1,115 @@
+package com.leon.saintsdragons.server.entity.controller;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.Entity;
+
+import java.util.Arrays;
+
+/**
+ * Deadline-based countdowns for a dragon. Each timer stores the game time it runs out at
+ * instead of being decremented every tick; "active" is a single comparison against the
+ * current game time. Timers with an expiry callback are fired from {@link #tick()}, which
+ * returns after one compare until the earliest callback deadline is reached, so an idle
+ * dragon does no timer work. Saved as remaining ticks so values survive time jumps.
+ */
+public class DragonTimerController {
+    public enum Timer {
+        SUPERCHARGE,
+        TEMP_INVULN,
+        SUPERCHARGE_VFX,
+        SLEEP_TRANSITION,
+        SLEEP_AMBIENT_COOLDOWN,
+        SLEEP_REENTRY_COOLDOWN,
+        SLEEP_CANCEL,
+        RIDER_CONTROL_LOCK,
+        TAKEOFF_LOCK,
+        RIDER_TAKEOFF,
+        POST_LOAD_AIR_STABILIZE,
+        HURT_SOUND_COOLDOWN
+    }
+
+    private static final Timer[] TIMERS = Timer.values();
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final Entity owner;
+    private final long[] deadlines = new long[TIMERS.length];
+    private final Runnable[] callbacks = new Runnable[TIMERS.length];
+    // Earliest deadline among armed timers that have a callback
+    private long nextExpiry = Long.MAX_VALUE;
+
+    public DragonTimerController(Entity owner) {
+        this.owner = owner;
+        Arrays.fill(deadlines, UNSET);
+    }
+
+    private long now() {
+        return owner.level().getGameTime();
+    }
+
+    /** Runs once when the timer reaches its deadline (not when cancelled or restarted). */
+    public void onExpire(Timer timer, Runnable callback) {
+        callbacks[timer.ordinal()] = callback;
+    }
+
+    /** (Re)start the timer; ticks <= 0 cancels it. */
+    public void start(Timer timer, int ticks) {
+        int i = timer.ordinal();
+        if (ticks <= 0) {
+            deadlines[i] = UNSET;
+            return;
+        }
+        long deadline = now() + ticks;
+        deadlines[i] = deadline;
+        if (callbacks[i] != null && deadline < nextExpiry) {
+            nextExpiry = deadline;
+        }
+    }
+
+    /** Keep whichever runs out later: the current deadline or now + ticks. */
+    public void extend(Timer timer, int ticks) {
+        if (ticks > remaining(timer)) {
+            start(timer, ticks);
+        }
+    }
+
+    public void cancel(Timer timer) {
+        deadlines[timer.ordinal()] = UNSET;
+    }
+
+    public boolean isActive(Timer timer) {
+        return deadlines[timer.ordinal()] > now();
+    }
+
+    public int remaining(Timer timer) {
+        long deadline = deadlines[timer.ordinal()];
+        if (deadline == UNSET) return 0;
+        return (int) Math.max(0L, deadline - now());
+    }
+
+    /** Fire callbacks for timers that ran out. Call once per server tick. */
+    public void tick() {
+        long now = now();
+        if (now < nextExpiry) return;
+        // Recomputed below; callbacks that re-arm a timer lower it again through start()
+        nextExpiry = Long.MAX_VALUE;
+        for (int i = 0; i < deadlines.length; i++) {
+            Runnable callback = callbacks[i];
+            long deadline = deadlines[i];
+            if (callback == null || deadline == UNSET) continue;
+            if (deadline <= now) {
+                deadlines[i] = UNSET;
+                callback.run();
+            } else if (deadline < nextExpiry) {
+                nextExpiry = deadline;
+            }
+        }
+    }
+
+    public void save(CompoundTag tag, Timer timer, String key) {
+        tag.putInt(key, remaining(timer));
+    }
+
+    public void load(CompoundTag tag, Timer timer, String key) {
+        start(timer, tag.contains(key) ? Math.max(0, tag.getInt(key)) : 0);
+    }
+}
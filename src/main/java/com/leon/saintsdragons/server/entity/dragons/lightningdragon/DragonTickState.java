@@ -0,0 +1,103 @@
+package com.leon.saintsdragons.server.entity.dragons.lightningdragon;
+
+/**
+ * Immutable snapshot of the dragon's synced flags and motion, captured at the top of
+ * {@link LightningDragonEntity#tick()} and again once the flight and ability stages have run.
+ * Read-only consumers (LOD, anim-state classification, ambient sounds) use this instead of
+ * hitting SynchedEntityData repeatedly.
+ * Goals, controllers and abilities keep reading the live accessors: they run interleaved with
+ * the stages that flip flight flags, so a snapshot would hand them stale state.
+ */
+public record DragonTickState(
+        boolean flying,
+        boolean takeoff,
+        boolean hovering,
+        boolean landing,
+        boolean goingUp,
+        boolean goingDown,
+        boolean accelerating,
+        boolean running,
+        boolean beaming,
+        boolean sleeping,
+        boolean sleepTransitioning,
+        boolean ridden,
+        boolean vehicle,
+        boolean dying,
+        float riderForward,
+        float riderStrafe,
+        double horizontalSpeedSqr,
+        double yDelta,
+        float glidingFraction,
+        float flappingFraction,
+        float hoveringFraction
+) {
+    // Ground classification thresholds (horizontal velocity squared); typical AI follow (≈0.0054) is walk
+    private static final double WALK_MIN = 0.0008;
+    private static final double RUN_MIN = 0.0200;
+
+    static DragonTickState capture(LightningDragonEntity dragon) {
+        // One read of the packed flags instead of one lookup per boolean
+        int flags = dragon.getEntityData().get(LightningDragonEntity.DATA_FLAGS);
+        return new DragonTickState(
+                (flags & LightningDragonEntity.FLAG_FLYING) != 0,
+                (flags & LightningDragonEntity.FLAG_TAKEOFF) != 0,
+                (flags & LightningDragonEntity.FLAG_HOVERING) != 0,
+                (flags & LightningDragonEntity.FLAG_LANDING) != 0,
+                (flags & LightningDragonEntity.FLAG_GOING_UP) != 0,
+                (flags & LightningDragonEntity.FLAG_GOING_DOWN) != 0,
+                (flags & LightningDragonEntity.FLAG_ACCELERATING) != 0,
+                (flags & LightningDragonEntity.FLAG_RUNNING) != 0,
+                (flags & LightningDragonEntity.FLAG_BEAMING) != 0,
+                (flags & LightningDragonEntity.FLAG_SLEEPING) != 0,
+                dragon.isSleepTransitioning(),
+                dragon.getControllingPassenger() != null,
+                dragon.isVehicle(),
+                dragon.isDying(),
+                dragon.getEntityData().get(LightningDragonEntity.DATA_RIDER_FORWARD),
+                dragon.getEntityData().get(LightningDragonEntity.DATA_RIDER_STRAFE),
+                dragon.getDeltaMovement().horizontalDistanceSqr(),
+                dragon.getYDelta(),
+                dragon.getGlidingFraction(),
+                dragon.getFlappingFraction(),
+                dragon.getHoveringFraction()
+        );
+    }
+
+    public boolean airborneOrTransitioning() {
+        return flying || takeoff || landing || hovering;
+    }
+
+    /**
+     * Ground movement state for observers: 0 idle, 1 walk, 2 run. Always idle while flying.
+     */
+    public int groundMoveState() {
+        if (flying) return 0;
+        // If being ridden, prefer rider inputs for robust state selection
+        if (ridden && Math.abs(riderForward) + Math.abs(riderStrafe) > 0.05f) {
+            return accelerating ? 2 : 1;
+        }
+        // Use horizontal velocity (matches HUD vel2) to avoid position delta spikes
+        if (horizontalSpeedSqr > RUN_MIN) return 2;
+        if (horizontalSpeedSqr > WALK_MIN) return 1;
+        return 0;
+    }
+
+    /**
+     * Flight mode for observers: -1 grounded, 0 glide, 1 flap, 2 hover, 3 takeoff.
+     */
+    public int flightMode() {
+        if (!flying) return -1;
+        if (takeoff) return 3;
+        if (ridden) {
+            // Ridden: always glide when rider holds descend; flap when holding ascend
+            if (goingDown) return 0;
+            if (goingUp) return 1;
+            return yDelta < -0.005 ? 0 : 1; // natural descent -> glide
+        }
+        // AI: fractions with small bias
+        if (yDelta > 0.02) return 1;
+        if (yDelta < -0.02) return 0;
+        if (hovering || hoveringFraction > 0.55f) return 2;
+        return (glidingFraction >= flappingFraction + 0.10f) ? 0 : 1;
+    }
+}
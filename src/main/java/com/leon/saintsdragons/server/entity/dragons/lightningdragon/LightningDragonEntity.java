@@ -4,8 +4,6 @@
 package com.leon.saintsdragons.server.entity.dragons.lightningdragon;
 
 //Custom stuff
-import com.leon.saintsdragons.common.particle.lightningdragon.LightningArcData;
-import com.leon.saintsdragons.common.particle.lightningdragon.LightningStormData;
 import com.leon.saintsdragons.server.ai.goals.*;
 import com.leon.saintsdragons.server.ai.navigation.DragonFlightMoveHelper;
 import com.leon.saintsdragons.server.entity.controller.DragonPhysicsController;
@@ -15,6 +13,9 @@ import com.leon.saintsdragons.server.entity.controller.DragonFlightController;
 import com.leon.saintsdragons.server.entity.handler.DragonInteractionHandler;
 import com.leon.saintsdragons.server.entity.handler.DragonKeybindHandler;
 import com.leon.saintsdragons.server.entity.controller.DragonRiderController;
+import com.leon.saintsdragons.server.entity.controller.DragonTickLodController;
+import com.leon.saintsdragons.server.entity.controller.DragonTimerController;
+import com.leon.saintsdragons.server.entity.controller.DragonTimerController.Timer;
 import com.leon.saintsdragons.server.entity.handler.DragonSoundHandler;
 import com.leon.saintsdragons.util.DragonMathUtil;
 import com.leon.saintsdragons.server.entity.ability.DragonAbility;
@@ -49,7 +50,6 @@ import net.minecraft.world.entity.ai.control.MoveControl;
 import net.minecraft.world.entity.ai.control.LookControl;
 import net.minecraft.world.entity.animal.FlyingAnimal;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.entity.projectile.Projectile;
 import net.minecraft.world.entity.LightningBolt;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -76,10 +76,6 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     // Simple per-field caches - more maintainable than generic system
     private double cachedOwnerDistance = Double.MAX_VALUE;
     private int ownerDistanceCacheTime = -1;
-    private List<Projectile> cachedNearbyProjectiles = new ArrayList<>();
-    private int nearbyProjectilesCacheTime = -1;
-    private int projectileCacheIntervalTicks = 3; // dynamic backoff (min 3)
-    private int emptyProjectileScans = 0;
     private double cachedHorizontalSpeed = 0.0;
     private int horizontalSpeedCacheTime = -1;
     // ===== AMBIENT SOUND SYSTEM =====
@@ -117,16 +113,21 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
 
 
     // ===== DATA ACCESSORS (Package-private for controller access) =====
-    static final EntityDataAccessor<Boolean> DATA_FLYING =
-            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.BOOLEAN);
-    static final EntityDataAccessor<Boolean> DATA_TAKEOFF =
-            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.BOOLEAN);
-    static final EntityDataAccessor<Boolean> DATA_HOVERING =
-            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.BOOLEAN);
-    static final EntityDataAccessor<Boolean> DATA_LANDING =
-            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.BOOLEAN);
-    static final EntityDataAccessor<Boolean> DATA_RUNNING =
-            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.BOOLEAN);
+    // Packed boolean state; one dirty entry per change batch instead of one per flag
+    static final EntityDataAccessor<Integer> DATA_FLAGS =
+            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.INT);
+    static final int FLAG_FLYING         = 1;
+    static final int FLAG_TAKEOFF        = 1 << 1;
+    static final int FLAG_HOVERING       = 1 << 2;
+    static final int FLAG_LANDING        = 1 << 3;
+    static final int FLAG_RUNNING        = 1 << 4;
+    static final int FLAG_BEAMING        = 1 << 5;
+    static final int FLAG_BEAM_END_SET   = 1 << 6;
+    static final int FLAG_BEAM_START_SET = 1 << 7;
+    static final int FLAG_GOING_UP       = 1 << 8;
+    static final int FLAG_GOING_DOWN     = 1 << 9;
+    static final int FLAG_ACCELERATING   = 1 << 10;
+    static final int FLAG_SLEEPING       = 1 << 11;
     // 0 = idle, 1 = walk, 2 = run (server-authoritative ground move state)
     public static final EntityDataAccessor<Integer> DATA_GROUND_MOVE_STATE =
             SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.INT);
@@ -142,18 +143,12 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
             SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.INT);
     static final EntityDataAccessor<Integer> DATA_ATTACK_PHASE =
             SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.INT);
-    static final EntityDataAccessor<Boolean> DATA_BEAMING =
-            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.BOOLEAN);
-    static final EntityDataAccessor<Boolean> DATA_BEAM_END_SET =
-            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.BOOLEAN);
     static final EntityDataAccessor<Float> DATA_BEAM_END_X =
             SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.FLOAT);
     static final EntityDataAccessor<Float> DATA_BEAM_END_Y =
             SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.FLOAT);
     static final EntityDataAccessor<Float> DATA_BEAM_END_Z =
             SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.FLOAT);
-    static final EntityDataAccessor<Boolean> DATA_BEAM_START_SET =
-            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.BOOLEAN);
     static final EntityDataAccessor<Float> DATA_BEAM_START_X =
             SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.FLOAT);
     static final EntityDataAccessor<Float> DATA_BEAM_START_Y =
@@ -163,16 +158,6 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     public static final EntityDataAccessor<Float> DATA_SIT_PROGRESS =
             SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.FLOAT);
 
-    // Riding control state accessors
-    static final EntityDataAccessor<Boolean> DATA_GOING_UP =
-            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.BOOLEAN);
-    static final EntityDataAccessor<Boolean> DATA_GOING_DOWN =
-            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.BOOLEAN);
-    static final EntityDataAccessor<Boolean> DATA_ACCELERATING =
-            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.BOOLEAN);
-    static final EntityDataAccessor<Boolean> DATA_SLEEPING =
-            SynchedEntityData.defineId(LightningDragonEntity.class, EntityDataSerializers.BOOLEAN);
-
 
     // ===== STATE VARIABLES (Package-private for controller access) =====
     public int timeFlying = 0;
@@ -202,20 +187,7 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     // Sleep transition state
     private boolean sleepingEntering = false;
     private boolean sleepingExiting = false;
-    private int sleepTransitionTicks = 0;
-    // Tiny ambient resume buffer after exit completes
-    private int sleepAmbientCooldownTicks = 0;
-    // Re-entry suppression after aggression/damage to prevent instant resleep
-    private int sleepReentryCooldownTicks = 0;
-    // Hard-stop flag to kill sleep clips immediately across ticks
-    private int sleepCancelTicks = 0;
-
-    // Post-load stabilization to preserve midair riding state across save/load
-    private int postLoadAirStabilizeTicks = 0; // counts down after world load if we saved while flying
-
-    // Rider takeoff request timer: while > 0, flight controller treats state as takeoff
-    private int riderTakeoffTicks = 0;
-
+    // Transition length, ambient resume buffer, re-entry suppression and hard-stop are SLEEP_* timers
 
     // Last landing completion time (server game time). Used for takeoff cooldowns.
     private long lastLandingGameTime = Long.MIN_VALUE;
@@ -225,8 +197,8 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     }
 
     // Last broadcasted animation state for observer pulse
-    private int lastBroadcastGroundState = Integer.MIN_VALUE;
-    private int lastBroadcastFlightMode = Integer.MIN_VALUE;
+    // Per-tick snapshot of synced state (see DragonTickState)
+    private DragonTickState tickState;
 
     public void markLandedNow() {
         if (!level().isClientSide) {
@@ -277,6 +249,10 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         return animationController.hoveringFraction;
     }
     private final DragonPhysicsController animationController = new DragonPhysicsController(this);
+    // Distance-tiered tick scheduler (server only; client always runs full)
+    private final DragonTickLodController lodController = new DragonTickLodController(this);
+    // Deadline-based countdowns (locks, cooldowns, sleep transitions, supercharge)
+    private final DragonTimerController timers = new DragonTimerController(this);
 
     // Animation controller is internal-only; external integration goes via GeckoLib controllers.
 
@@ -322,6 +298,12 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         RandomSource rng = this.getRandom();
         this.ambientSoundTimer = rng.nextInt(80); // small random offset
         this.nextAmbientSoundDelay = MIN_AMBIENT_DELAY + rng.nextInt(MAX_AMBIENT_DELAY - MIN_AMBIENT_DELAY);
+
+        // Timer expiry actions (server; fired from timers.tick())
+        timers.onExpire(Timer.TEMP_INVULN, () -> {
+            if (!isDying()) this.setInvulnerable(false);
+        });
+        timers.onExpire(Timer.SLEEP_TRANSITION, this::finishSleepTransition);
     }
 
     // ===== HANDLER ACCESS METHODS (expose only what is used externally) =====
@@ -360,36 +342,24 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
                 .add(Attributes.ATTACK_DAMAGE, 8.0D);
     }
 
-    // Cooldown to prevent hurt sound spam when ridden or under rapid hits
-    private int hurtSoundCooldown = 0;
+    // Hurt sound spam is throttled by the HURT_SOUND_COOLDOWN timer
     @Override
     protected void defineSynchedData() {
         super.defineSynchedData();
-        this.entityData.define(DATA_FLYING, false);
-        this.entityData.define(DATA_TAKEOFF, false);
-        this.entityData.define(DATA_HOVERING, false);
-        this.entityData.define(DATA_LANDING, false);
-        this.entityData.define(DATA_RUNNING, false);
+        this.entityData.define(DATA_FLAGS, 0);
         this.entityData.define(DATA_GROUND_MOVE_STATE, 0);
         this.entityData.define(DATA_FLIGHT_MODE, -1);
         this.entityData.define(DATA_RIDER_FORWARD, 0f);
         this.entityData.define(DATA_RIDER_STRAFE, 0f);
         this.entityData.define(DATA_ATTACK_KIND, 0);
         this.entityData.define(DATA_ATTACK_PHASE, 0);
-        this.entityData.define(DATA_BEAMING, false);
-        this.entityData.define(DATA_BEAM_END_SET, false);
         this.entityData.define(DATA_BEAM_END_X, 0f);
         this.entityData.define(DATA_BEAM_END_Y, 0f);
         this.entityData.define(DATA_BEAM_END_Z, 0f);
-        this.entityData.define(DATA_BEAM_START_SET, false);
         this.entityData.define(DATA_BEAM_START_X, 0f);
         this.entityData.define(DATA_BEAM_START_Y, 0f);
         this.entityData.define(DATA_BEAM_START_Z, 0f);
         this.entityData.define(DATA_SIT_PROGRESS, 0.0f);
-        this.entityData.define(DATA_GOING_UP, false);
-        this.entityData.define(DATA_GOING_DOWN, false);
-        this.entityData.define(DATA_ACCELERATING, false);
-        this.entityData.define(DATA_SLEEPING, false);
     }
 
     @Override
@@ -400,8 +370,17 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     public boolean canUseAbility() {
         return combatManager.canUseAbility();
     }
-    public void useRidingAbility(String abilityName) {
-        if (abilityName == null || abilityName.isEmpty()) return;
+    /**
+     * Rider packets carry the numeric id from {@link AbilityRegistry}; names are only a persistence key.
+     */
+    public void useRidingAbility(int abilityId) {
+        var type = AbilityRegistry.byId(abilityId);
+        if (type != null) {
+            useRidingAbility(type);
+        }
+    }
+
+    private void useRidingAbility(com.leon.saintsdragons.server.entity.ability.DragonAbilityType<?, ?> type) {
         // Only allow when actually being ridden by a living controller (owner ideally)
         var cp = getControllingPassenger();
         if (!(cp instanceof net.minecraft.world.entity.LivingEntity)) {
@@ -414,11 +393,8 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         if (this.isTame() && cp instanceof net.minecraft.world.entity.player.Player p && !this.isOwnedBy(p)) {
             return; // owner-gate abilities on tamed dragons
         }
-        var type = AbilityRegistry.get(abilityName);
-        if (type != null) {
-            // Delegate to combat manager which handles proper generic casting
-            combatManager.tryUseAbility(type);
-        }
+        // Delegate to combat manager which handles proper generic casting
+        combatManager.tryUseAbility(type);
     }
 
     /**
@@ -517,9 +493,9 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         combatManager.forceEndActiveAbility();
     }
 
-    public boolean isBeaming() { return this.entityData.get(DATA_BEAMING); }
+    public boolean isBeaming() { return getFlag(FLAG_BEAMING); }
     public void setBeaming(boolean beaming) {
-        this.entityData.set(DATA_BEAMING, beaming);
+        setFlag(FLAG_BEAMING, beaming);
         if (beaming && level().isClientSide) {
             // Initialize beam start position immediately to prevent drift on first frame
             this.prevClientBeamStart = this.clientBeamStart;
@@ -537,9 +513,9 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
 
     public void setBeamEndPosition(@org.jetbrains.annotations.Nullable Vec3 pos) {
         if (pos == null) {
-            this.entityData.set(DATA_BEAM_END_SET, false);
+            setFlag(FLAG_BEAM_END_SET, false);
         } else {
-            this.entityData.set(DATA_BEAM_END_SET, true);
+            setFlag(FLAG_BEAM_END_SET, true);
             this.entityData.set(DATA_BEAM_END_X, (float) pos.x);
             this.entityData.set(DATA_BEAM_END_Y, (float) pos.y);
             this.entityData.set(DATA_BEAM_END_Z, (float) pos.z);
@@ -547,7 +523,7 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     }
 
     public Vec3 getBeamEndPosition() {
-        if (!this.entityData.get(DATA_BEAM_END_SET)) return null;
+        if (!getFlag(FLAG_BEAM_END_SET)) return null;
         return new Vec3(
                 this.entityData.get(DATA_BEAM_END_X),
                 this.entityData.get(DATA_BEAM_END_Y),
@@ -565,9 +541,9 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
 
     public void setBeamStartPosition(@org.jetbrains.annotations.Nullable Vec3 pos) {
         if (pos == null) {
-            this.entityData.set(DATA_BEAM_START_SET, false);
+            setFlag(FLAG_BEAM_START_SET, false);
         } else {
-            this.entityData.set(DATA_BEAM_START_SET, true);
+            setFlag(FLAG_BEAM_START_SET, true);
             this.entityData.set(DATA_BEAM_START_X, (float) pos.x);
             this.entityData.set(DATA_BEAM_START_Y, (float) pos.y);
             this.entityData.set(DATA_BEAM_START_Z, (float) pos.z);
@@ -575,7 +551,7 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     }
 
     public Vec3 getBeamStartPosition() {
-        if (!this.entityData.get(DATA_BEAM_START_SET)) return null;
+        if (!getFlag(FLAG_BEAM_START_SET)) return null;
         return new Vec3(
                 this.entityData.get(DATA_BEAM_START_X),
                 this.entityData.get(DATA_BEAM_START_Y),
@@ -606,7 +582,19 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     }
 
     // ===== STATE MANAGEMENT =====
-    public boolean isFlying() { return this.entityData.get(DATA_FLYING); }
+    boolean getFlag(int mask) {
+        return (this.entityData.get(DATA_FLAGS) & mask) != 0;
+    }
+
+    void setFlag(int mask, boolean value) {
+        int flags = this.entityData.get(DATA_FLAGS);
+        int updated = value ? (flags | mask) : (flags & ~mask);
+        if (updated != flags) {
+            this.entityData.set(DATA_FLAGS, updated);
+        }
+    }
+
+    public boolean isFlying() { return getFlag(FLAG_FLYING); }
 
     public void setFlying(boolean flying) {
         if (flying && this.isBaby()) flying = false;
@@ -618,7 +606,7 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         }
 
         boolean wasFlying = isFlying();
-        this.entityData.set(DATA_FLYING, flying);
+        setFlag(FLAG_FLYING, flying);
 
         // Reset acceleration state when transitioning between ground and flight modes
         // This prevents ground sprinting from affecting flight speed and vice versa
@@ -636,23 +624,23 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         }
     }
 
-    public boolean isTakeoff() { return this.entityData.get(DATA_TAKEOFF); }
+    public boolean isTakeoff() { return getFlag(FLAG_TAKEOFF); }
     public void setTakeoff(boolean takeoff) {
         if (takeoff && this.isBaby()) takeoff = false;
-        this.entityData.set(DATA_TAKEOFF, takeoff);
+        setFlag(FLAG_TAKEOFF, takeoff);
     }
 
-    public boolean isHovering() { return this.entityData.get(DATA_HOVERING); }
+    public boolean isHovering() { return getFlag(FLAG_HOVERING); }
     public void setHovering(boolean hovering) {
         if (hovering && this.isBaby()) hovering = false;
-        this.entityData.set(DATA_HOVERING, hovering);
+        setFlag(FLAG_HOVERING, hovering);
     }
 
 
-    public boolean isRunning() { return this.entityData.get(DATA_RUNNING); }
+    public boolean isRunning() { return getFlag(FLAG_RUNNING); }
 
     public void setRunning(boolean running) {
-        this.entityData.set(DATA_RUNNING, running);
+        setFlag(FLAG_RUNNING, running);
         if (running) {
             runningTicks = 0;
             Objects.requireNonNull(this.getAttribute(Attributes.MOVEMENT_SPEED)).setBaseValue(RUN_SPEED);
@@ -680,10 +668,10 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         if (s == 2) return true;
         if (s == 1) return false;
         // Fallback: rely on synced running flag if state not yet set
-        return this.entityData.get(DATA_RUNNING);
+        return getFlag(FLAG_RUNNING);
     }
 
-    public boolean isLanding() { return this.entityData.get(DATA_LANDING); }
+    public boolean isLanding() { return getFlag(FLAG_LANDING); }
 
     public void setLanding(boolean landing) {
         // Prevent forced landing when being ridden by a player
@@ -692,7 +680,7 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
             return;
         }
         
-        this.entityData.set(DATA_LANDING, landing);
+        setFlag(FLAG_LANDING, landing);
         if (landing) {
             landingTimer = 0;
             this.getNavigation().stop();
@@ -713,19 +701,42 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     public void setAttackPhase(int phase) { this.entityData.set(DATA_ATTACK_PHASE, phase); }
 
     // Riding control states
-    public boolean isGoingUp() { return this.entityData.get(DATA_GOING_UP); }
-    public void setGoingUp(boolean goingUp) { this.entityData.set(DATA_GOING_UP, goingUp); }
+    public boolean isGoingUp() { return getFlag(FLAG_GOING_UP); }
+    public void setGoingUp(boolean goingUp) { setFlag(FLAG_GOING_UP, goingUp); }
 
-    public boolean isGoingDown() { return this.entityData.get(DATA_GOING_DOWN); }
-    public void setGoingDown(boolean goingDown) { this.entityData.set(DATA_GOING_DOWN, goingDown); }
+    public boolean isGoingDown() { return getFlag(FLAG_GOING_DOWN); }
+    public void setGoingDown(boolean goingDown) { setFlag(FLAG_GOING_DOWN, goingDown); }
 
-    public boolean isAccelerating() { return this.entityData.get(DATA_ACCELERATING); }
-    public void setAccelerating(boolean accelerating) { this.entityData.set(DATA_ACCELERATING, accelerating); }
+    public boolean isAccelerating() { return getFlag(FLAG_ACCELERATING); }
+    public void setAccelerating(boolean accelerating) { setFlag(FLAG_ACCELERATING, accelerating); }
 
     // Rider input snapshots for server-side animation sync
     public void setLastRiderForward(float forward) { this.entityData.set(DATA_RIDER_FORWARD, forward); }
     public void setLastRiderStrafe(float strafe) { this.entityData.set(DATA_RIDER_STRAFE, strafe); }
 
+    // Rider input frames are change-only with a ~10 tick keepalive; held keys are not re-sent
+    private static final int RIDER_INPUT_STALE_TICKS = 15;
+    private int lastRiderInputSeq = -1;
+    private int lastRiderInputTick = 0;
+
+    /**
+     * Records an incoming rider input frame. Returns false for duplicate or out-of-order frames.
+     */
+    public boolean acceptRiderInputFrame(short seq) {
+        int s = seq & 0xFFFF;
+        // Wrap-aware "newer than" on the 16-bit sequence
+        if (lastRiderInputSeq >= 0 && (short) (s - lastRiderInputSeq) <= 0) {
+            return false;
+        }
+        lastRiderInputSeq = s;
+        lastRiderInputTick = this.tickCount;
+        return true;
+    }
+
+    public boolean isRiderInputStale() {
+        return this.tickCount - lastRiderInputTick > RIDER_INPUT_STALE_TICKS;
+    }
+
     // Flight mode accessor for controllers (avoids accessing protected entityData outside entity)
     public int getSyncedFlightMode() { return this.entityData.get(DATA_FLIGHT_MODE); }
 
@@ -767,10 +778,7 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
             int s = Math.max(0, Math.min(2, state));
             if (this.entityData.get(DATA_GROUND_MOVE_STATE) != s) {
                 this.entityData.set(DATA_GROUND_MOVE_STATE, s);
-                com.leon.saintsdragons.common.network.NetworkHandler.INSTANCE.send(
-                        net.minecraftforge.network.PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> this),
-                        new com.leon.saintsdragons.common.network.MessageDragonAnimState(this.getId(), (byte) s, (byte) getEffectiveFlightMode())
-                );
+                com.leon.saintsdragons.common.network.DragonAnimStateSync.markDirty(this, s, getEffectiveFlightMode());
             }
         }
     }
@@ -839,7 +847,15 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     // ===== MAIN TICK METHOD =====
     @Override
     public void tick() {
-        animationController.tick();
+        // Snapshot synced flags once; read-only stages below consume this instead of entityData
+        DragonTickState state = DragonTickState.capture(this);
+        this.tickState = state;
+
+        // Pick this tick's LOD tier before any gated stage runs
+        lodController.tick(state);
+        if (lodController.shouldRun(DragonTickLodController.Stage.PHYSICS)) {
+            animationController.tick();
+        }
 
         // Client-side animation sync no longer required; standard controller handles timing
 
@@ -849,7 +865,7 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         this.getSoundHandler().tick();
 
         // If we loaded while flying (e.g., player saved while riding in air), hold flight for a short grace period
-        if (!level().isClientSide && postLoadAirStabilizeTicks > 0) {
+        if (!level().isClientSide && timers.isActive(Timer.POST_LOAD_AIR_STABILIZE)) {
             // Ensure air nav + flight flags are consistent
             if (!isFlying()) setFlying(true);
             if (!isTakeoff()) setTakeoff(true);
@@ -865,27 +881,34 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
             // Give a tiny buoyancy to counter immediate drop before rider inputs arrive
             var v = getDeltaMovement();
             if (v.y < 0.02) setDeltaMovement(v.x * 0.98, 0.02, v.z * 0.98);
-
-            postLoadAirStabilizeTicks--;
-        }
-
-        // Decrement rider takeoff window (no-op while dying)
-        if (!level().isClientSide && riderTakeoffTicks > 0 && !isDying()) {
-            riderTakeoffTicks--;
         }
 
         // (No action window/gate ticking)
 
+        // Decay rider inputs once frames go stale (no change or keepalive received) so they can't stick
+        if (!level().isClientSide && isRiderInputStale()) {
+            if (this.entityData.get(DATA_RIDER_FORWARD) != 0f || this.entityData.get(DATA_RIDER_STRAFE) != 0f) {
+                float nf = this.entityData.get(DATA_RIDER_FORWARD) * 0.8f;
+                float ns = this.entityData.get(DATA_RIDER_STRAFE) * 0.8f;
+                if (Math.abs(nf) < 0.01f) nf = 0f;
+                if (Math.abs(ns) < 0.01f) ns = 0f;
+                this.entityData.set(DATA_RIDER_FORWARD, nf);
+                this.entityData.set(DATA_RIDER_STRAFE, ns);
+            }
+            if (isGoingUp()) setGoingUp(false);
+            if (isGoingDown()) setGoingDown(false);
+            if (isAccelerating()) setAccelerating(false);
+        }
+
         // Delegate to controllers (disabled while dying)
         if (!isDying()) {
-            flightController.handleFlightLogic();
+            if (lodController.shouldRun(DragonTickLodController.Stage.FLIGHT)) {
+                flightController.handleFlightLogic();
+            }
             combatManager.tick();
         }
         interactionHandler.updateSittingProgress();
 
-        // Cool down hurt sound throttle
-        if (hurtSoundCooldown > 0) hurtSoundCooldown--;
-
         if (!level().isClientSide) {
             // When ridden and flying, never stay in 'hovering' unless explicitly landing or beaming or taking off
             if (isFlying() && getControllingPassenger() != null) {
@@ -899,42 +922,30 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
                 this.setTarget(null);
                 this.setDeltaMovement(0, 0, 0);
             }
-            handleAmbientSounds();
-            // no-op
         }
 
-        // Handle sleep enter/exit timers
+        // Flight logic, abilities and the fixes above may have flipped flight flags; re-snapshot so
+        // the stages below (ambient, VFX, anim sync) see this tick's state rather than last tick's
+        state = DragonTickState.capture(this);
+        this.tickState = state;
+
         if (!level().isClientSide) {
-            // Supercharge timer (summon storm)
-            if (superchargeTicks > 0) superchargeTicks--;
-            // Temporary invulnerability timer
-            if (tempInvulnTicks > 0) {
-                tempInvulnTicks--;
-                if (tempInvulnTicks == 0 && !isDying()) this.setInvulnerable(false);
+            if (lodController.shouldRun(DragonTickLodController.Stage.AMBIENT)) {
+                handleAmbientSounds(state);
             }
-            // Supercharge VFX: periodic arcs/sparks around the body
-            if ((isSupercharged() || this.level().isThundering()) && superchargeVfxCooldown-- <= 0) {
+        }
+
+        if (!level().isClientSide) {
+            // Fire expired timers (temp invuln end, sleep enter/exit completion); free when none are due
+            timers.tick();
+            // Supercharge VFX: periodic arcs/sparks around the body (supercharged, inside a storm cell, or natural thunder)
+            if ((isSupercharged() || this.level().isThundering()
+                    || com.leon.saintsdragons.server.entity.handler.DragonStormCells.isInStorm(this.level(), getX(), getZ()))
+                    && lodController.shouldRun(DragonTickLodController.Stage.VFX)
+                    && !timers.isActive(Timer.SUPERCHARGE_VFX)) {
                 spawnSuperchargeVfx();
-                superchargeVfxCooldown = 6 + this.random.nextInt(6); // pulse every ~0.3-0.6s
-            }
-            if (sleepTransitionTicks > 0) {
-                sleepTransitionTicks--;
-                if (sleepTransitionTicks == 0) {
-                    if (sleepingEntering) {
-                        // Enter finished: mark sleeping
-                        setSleeping(true);
-                        sleepingEntering = false;
-                    } else if (sleepingExiting) {
-                        // Exit finished
-                        sleepingExiting = false;
-                        // Start small ambient cooldown buffer (~0.5s)
-                        sleepAmbientCooldownTicks = 10;
-                    }
-                }
+                timers.start(Timer.SUPERCHARGE_VFX, 6 + this.random.nextInt(6)); // pulse every ~0.3-0.6s
             }
-            if (sleepAmbientCooldownTicks > 0) sleepAmbientCooldownTicks--;
-            if (sleepReentryCooldownTicks > 0) sleepReentryCooldownTicks--;
-            if (sleepCancelTicks > 0) sleepCancelTicks--;
         }
 
         // Wake up if mounted or target appears/aggression
@@ -950,175 +961,11 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
                 wakeUpImmediately();
                 suppressSleep(200);
             }
-
-            // Server-authoritative ground movement state sync for reliable client animation (runs while sleeping transitions)
-            // Only consider ground state when not flying
-            int moveState = 0; // idle
-            if (!isFlying()) {
-                // If being ridden, prefer rider inputs for robust state selection
-                if (getControllingPassenger() != null) {
-                    float fwd = this.entityData.get(DATA_RIDER_FORWARD);
-                    float str = this.entityData.get(DATA_RIDER_STRAFE);
-                    float mag = Math.abs(fwd) + Math.abs(str);
-                    if (mag > 0.05f) {
-                        moveState = this.isAccelerating() ? 2 : 1;
-                    } else {
-                        // Fallback while ridden: use actual velocity so observers still see walk/run
-                        double speedSqr = getDeltaMovement().horizontalDistanceSqr();
-                        if (speedSqr > 0.08) {
-                            moveState = 2; // running-level velocity
-                        } else if (speedSqr > 0.005) {
-                            moveState = 1; // walking-level velocity
-                        } else {
-                            moveState = 0; // idle
-                        }
-                    }
-                } else {
-                    // Use horizontal velocity (matches HUD vel2) for AI classification to avoid position delta spikes
-                    double velSqr = getDeltaMovement().horizontalDistanceSqr();
-
-                    // Thresholds tuned so typical AI follow (≈0.0054) is walk, not run
-                    final double WALK_MIN = 0.0008;
-                    final double RUN_MIN  = 0.0200;
-
-                    if (velSqr > RUN_MIN) {
-                        moveState = 2; // run
-                    } else if (velSqr > WALK_MIN) {
-                        moveState = 1; // walk
-                    } else {
-                        moveState = 0; // idle
-                    }
-                }
-            }
-            // Only write when changed to avoid excess sync traffic
-            boolean changed = false;
-            if (this.entityData.get(DATA_GROUND_MOVE_STATE) != moveState) {
-                this.entityData.set(DATA_GROUND_MOVE_STATE, moveState);
-                changed = true;
-            }
-            // Flight mode sync for observers
-            int flightMode = -1;
-            if (isFlying()) {
-                double yDelta = getYDelta();
-                if (isTakeoff()) {
-                    flightMode = 3; // takeoff
-                } else if (getControllingPassenger() != null) {
-                    // Ridden: always glide when rider holds descend; flap when holding ascend
-                    if (isGoingDown()) flightMode = 0; // glide
-                    else if (isGoingUp()) flightMode = 1; // flap
-                    else if (yDelta < -0.005) flightMode = 0; // natural descent -> glide
-                    else flightMode = 1; // otherwise flap
-                } else {
-                    // AI: keep original behavior using fractions with small bias
-                    float glide = getGlidingFraction();
-                    float flap = getFlappingFraction();
-                    float hover = getHoveringFraction();
-                    if (yDelta > 0.02) flightMode = 1;
-                    else if (yDelta < -0.02) flightMode = 0;
-                    else if (isHovering() || hover > 0.55f) flightMode = 2;
-                    else flightMode = (glide >= flap + 0.10f) ? 0 : 1;
-                }
-            }
-            if (this.entityData.get(DATA_FLIGHT_MODE) != flightMode) {
-                this.entityData.set(DATA_FLIGHT_MODE, flightMode);
-                changed = true;
-            }
-            // Pulse an S2C message on changes to nudge late observers
-            if (changed && (lastBroadcastGroundState != moveState || lastBroadcastFlightMode != flightMode)) {
-                lastBroadcastGroundState = moveState;
-                lastBroadcastFlightMode = flightMode;
-                com.leon.saintsdragons.common.network.NetworkHandler.INSTANCE.send(
-                        net.minecraftforge.network.PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> this),
-                        new com.leon.saintsdragons.common.network.MessageDragonAnimState(this.getId(), (byte) moveState, (byte) flightMode)
-                );
-            }
-            // Periodic redundancy while ridden or airborne to bury any missed updates
-            boolean needsPulse = this.isVehicle() || flightMode >= 0 || moveState != 0;
-            if (needsPulse && (this.tickCount & 3) == 0) {
-                com.leon.saintsdragons.common.network.NetworkHandler.INSTANCE.send(
-                        net.minecraftforge.network.PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> this),
-                        new com.leon.saintsdragons.common.network.MessageDragonAnimState(this.getId(), (byte) moveState, (byte) flightMode)
-                );
-            }
-            // Decay rider inputs slightly each tick to avoid sticking when packets drop
-            if (this.entityData.get(DATA_RIDER_FORWARD) != 0f || this.entityData.get(DATA_RIDER_STRAFE) != 0f) {
-                float nf = this.entityData.get(DATA_RIDER_FORWARD) * 0.8f;
-                float ns = this.entityData.get(DATA_RIDER_STRAFE) * 0.8f;
-                if (Math.abs(nf) < 0.01f) nf = 0f;
-                if (Math.abs(ns) < 0.01f) ns = 0f;
-                this.entityData.set(DATA_RIDER_FORWARD, nf);
-                this.entityData.set(DATA_RIDER_STRAFE, ns);
-            }
         }
 
-        // Run the same movement/flight sync during normal ticks (not in sleep transitions)
-        if (!level().isClientSide && !(isSleeping() || sleepingEntering || sleepingExiting)) {
-            int moveState = 0;
-            if (!isFlying()) {
-                if (getControllingPassenger() != null) {
-                    float fwd = this.entityData.get(DATA_RIDER_FORWARD);
-                    float str = this.entityData.get(DATA_RIDER_STRAFE);
-                    float mag = Math.abs(fwd) + Math.abs(str);
-                    if (mag > 0.05f) {
-                        moveState = this.isAccelerating() ? 2 : 1;
-                    } else {
-                        double velSqr = getDeltaMovement().horizontalDistanceSqr();
-                        final double WALK_MIN = 0.0008;
-                        final double RUN_MIN  = 0.0200;
-                        if (velSqr > RUN_MIN) moveState = 2; else if (velSqr > WALK_MIN) moveState = 1; else moveState = 0;
-                    }
-                } else {
-                    // Use horizontal velocity (matches HUD) for AI classification
-                    double velSqr = getDeltaMovement().horizontalDistanceSqr();
-                    final double WALK_MIN = 0.0008;
-                    final double RUN_MIN  = 0.0200;
-                    if (velSqr > RUN_MIN) moveState = 2; else if (velSqr > WALK_MIN) moveState = 1; else moveState = 0;
-                }
-            }
-            boolean changed = false;
-            if (this.entityData.get(DATA_GROUND_MOVE_STATE) != moveState) {
-                this.entityData.set(DATA_GROUND_MOVE_STATE, moveState);
-                changed = true;
-            }
-            int flightMode = -1;
-            if (isFlying()) {
-                double yDelta = getYDelta();
-                if (isTakeoff()) {
-                    flightMode = 3; // takeoff
-                } else if (getControllingPassenger() != null) {
-                    if (isGoingDown()) flightMode = 0;
-                    else if (isGoingUp()) flightMode = 1;
-                    else if (yDelta < -0.005) flightMode = 0;
-                    else flightMode = 1;
-                } else {
-                    float glide = getGlidingFraction();
-                    float flap = getFlappingFraction();
-                    float hover = getHoveringFraction();
-                    if (yDelta > 0.02) flightMode = 1;
-                    else if (yDelta < -0.02) flightMode = 0;
-                    else if (isHovering() || hover > 0.55f) flightMode = 2;
-                    else flightMode = (glide >= flap + 0.10f) ? 0 : 1;
-                }
-            }
-            if (this.entityData.get(DATA_FLIGHT_MODE) != flightMode) {
-                this.entityData.set(DATA_FLIGHT_MODE, flightMode);
-                changed = true;
-            }
-            if (changed && (lastBroadcastGroundState != moveState || lastBroadcastFlightMode != flightMode)) {
-                lastBroadcastGroundState = moveState;
-                lastBroadcastFlightMode = flightMode;
-                com.leon.saintsdragons.common.network.NetworkHandler.INSTANCE.send(
-                        net.minecraftforge.network.PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> this),
-                        new com.leon.saintsdragons.common.network.MessageDragonAnimState(this.getId(), (byte) moveState, (byte) flightMode)
-                );
-            }
-            boolean needsPulse = this.isVehicle() || flightMode >= 0 || moveState != 0;
-            if (needsPulse && (this.tickCount & 3) == 0) {
-                com.leon.saintsdragons.common.network.NetworkHandler.INSTANCE.send(
-                        net.minecraftforge.network.PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> this),
-                        new com.leon.saintsdragons.common.network.MessageDragonAnimState(this.getId(), (byte) moveState, (byte) flightMode)
-                );
-            }
+        // Server-authoritative ground/flight anim state for observers (sleeping or not)
+        if (!level().isClientSide && lodController.shouldRun(DragonTickLodController.Stage.ANIM_SYNC)) {
+            syncAnimState(state);
         }
 
         // Handle dodge movement first
@@ -1152,13 +999,46 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         }
     }
 
+    /**
+     * Single classification stage for ground move state and flight mode; writes synced data
+     * only on change and queues it for the per-player batched anim-state flush.
+     */
+    private void syncAnimState(DragonTickState state) {
+        int moveState = state.groundMoveState();
+        int flightMode = state.flightMode();
+
+        // Only write when changed to avoid excess sync traffic
+        boolean changed = false;
+        if (this.entityData.get(DATA_GROUND_MOVE_STATE) != moveState) {
+            this.entityData.set(DATA_GROUND_MOVE_STATE, moveState);
+            changed = true;
+        }
+        if (this.entityData.get(DATA_FLIGHT_MODE) != flightMode) {
+            this.entityData.set(DATA_FLIGHT_MODE, flightMode);
+            changed = true;
+        }
+        // Observers get changes in the end-of-tick batch; new trackers get a full resync there
+        if (changed) {
+            com.leon.saintsdragons.common.network.DragonAnimStateSync.markDirty(this, moveState, flightMode);
+        }
+    }
+
+    /**
+     * Latest snapshot of this tick: taken at the top, then retaken after the flight/ability stage;
+     * null before the first tick.
+     */
+    @Nullable
+    public DragonTickState getTickState() {
+        return tickState;
+    }
+
     @Override
     protected void playHurtSound(@NotNull net.minecraft.world.damagesource.DamageSource source) {
         if (isDying()) {
             return;
         }
         // Throttle hurt sound to avoid spam while ridden or under rapid damage
-        if (hurtSoundCooldown > 0) {
+        if (timers.isActive(Timer.HURT_SOUND_COOLDOWN)) {
             return;
         }
         // Custom: activate one-shot hurt ability (plays sound + animation once)
@@ -1166,16 +1046,16 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
             this.tryActivateAbility(com.leon.saintsdragons.common.registry.ModAbilities.HURT);
         }
         // Short cooldown; extend slightly when being ridden
-        this.hurtSoundCooldown = this.isVehicle() ? 15 : 8;
+        timers.start(Timer.HURT_SOUND_COOLDOWN, this.isVehicle() ? 15 : 8);
     }
     /**
      * Plays appropriate ambient sound based on dragon's current mood and state
      */
-    private void playCustomAmbientSound() {
+    private void playCustomAmbientSound(DragonTickState state) {
         RandomSource random = getRandom();
 
         // Don't make ambient sounds if we're in combat or using abilities
-        if (isDying() || isAggressive() || isBeaming() || getActiveAbility() != null) {
+        if (state.dying() || isAggressive() || state.beaming() || getActiveAbility() != null) {
             return;
         }
         String vocalKey = null;
@@ -1184,12 +1064,12 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         if (isOrderedToSit()) {
             // Content sitting sounds
             vocalKey = (random.nextFloat() < 0.6f) ? "content" : "purr";
-        } else if (isFlying()) {
+        } else if (state.flying()) {
             // Occasional aerial sounds
             if (random.nextFloat() < 0.3f) vocalKey = "chuff";
-        } else if (!isFlying() && !isTakeoff() && !isLanding() && !isHovering() && (isWalking() || isRunning())) {
+        } else if (!state.airborneOrTransitioning() && (isWalking() || state.running())) {
             // Ground movement sounds - different based on speed
-            if (isRunning()) {
+            if (state.running()) {
                 vocalKey = "snort"; // Heavy breathing when running
             } else {
                 vocalKey = "chuff"; // Gentle snorts when walking
@@ -1214,13 +1094,13 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
      * Handles all the ambient grumbling and personality sounds
      * Because a silent dragon is a boring dragon
      */
-    private void handleAmbientSounds() {
-        if (isDying() || isSleeping() || isSleepTransitioning() || sleepAmbientCooldownTicks > 0) return;
+    private void handleAmbientSounds(DragonTickState state) {
+        if (state.dying() || state.sleeping() || state.sleepTransitioning() || timers.isActive(Timer.SLEEP_AMBIENT_COOLDOWN)) return;
         ambientSoundTimer++;
 
         // Time to make some noise?
         if (ambientSoundTimer >= nextAmbientSoundDelay) {
-            playCustomAmbientSound(); // Renamed to avoid conflict with Mob.playAmbientSound()
+            playCustomAmbientSound(state); // Renamed to avoid conflict with Mob.playAmbientSound()
             resetAmbientSoundTimer();
         }
     }
@@ -1492,82 +1372,41 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         return dying;
     }
     public void setDying(boolean dying) {
+        // combatManager.tick() stops while dying; drop hits queued this tick so they don't linger
+        if (dying && !this.dying) combatManager.clearPendingDamage();
         this.dying = dying;
     }
 
     // ===== SUPERCHARGE (Summon Storm) =====
-    private int superchargeTicks = 0;
     public void startSupercharge(int ticks) {
-        this.superchargeTicks = Math.max(this.superchargeTicks, Math.max(0, ticks));
+        timers.extend(Timer.SUPERCHARGE, ticks);
     }
-    public boolean isSupercharged() { return superchargeTicks > 0; }
+    public boolean isSupercharged() { return timers.isActive(Timer.SUPERCHARGE); }
     public float getDamageMultiplier() { return isSupercharged() ? 2.0f : 1.0f; }
     // Temporary invulnerability timer (e.g., during Summon Storm windup)
-    private int tempInvulnTicks = 0;
     public void startTemporaryInvuln(int ticks) {
-        this.tempInvulnTicks = Math.max(this.tempInvulnTicks, Math.max(0, ticks));
+        timers.extend(Timer.TEMP_INVULN, ticks);
         this.setInvulnerable(true);
     }
 
-    // VFX pulse throttle
-    private int superchargeVfxCooldown = 0;
+    // VFX pulse throttle: SUPERCHARGE_VFX timer
     private void spawnSuperchargeVfx() {
         if (!(this.level() instanceof net.minecraft.server.level.ServerLevel server)) return;
         // Center around chest
         net.minecraft.world.phys.Vec3 center = this.position().add(0, this.getBbHeight() * 0.6, 0);
         double radius = Math.max(this.getBoundingBox().getXsize(), this.getBoundingBox().getZsize()) * 0.55;
-        // 2-4 micro-bursts per pulse, each very short and randomized
+        // 2-4 micro-bursts per pulse; clients build the short randomized segments and sparks
         int bursts = 2 + this.random.nextInt(3);
-        for (int i = 0; i < bursts; i++) {
-            // Short local segment
-            net.minecraft.world.phys.Vec3 dir = randomUnit(this.random);
-            double length = 0.4 + this.random.nextDouble() * 0.7; // ~0.4-1.1 blocks
-            net.minecraft.world.phys.Vec3 offset = randomUnit(this.random).scale(radius * 0.35);
-            net.minecraft.world.phys.Vec3 from = center.add(offset);
-            net.minecraft.world.phys.Vec3 to = from.add(dir.scale(length));
-            float size = 0.5f + this.random.nextFloat() * 0.25f; // smaller sprites
-            emitMicroArc(server, from, to, size);
-        }
-        // A couple of sparks near center (smaller spread)
-        server.sendParticles(net.minecraft.core.particles.ParticleTypes.ELECTRIC_SPARK,
-                center.x, center.y, center.z,
-                3, radius * 0.15, radius * 0.15, radius * 0.15, 0.0);
-    }
-    private void emitMicroArc(net.minecraft.server.level.ServerLevel server, net.minecraft.world.phys.Vec3 from, net.minecraft.world.phys.Vec3 to, float size) {
-        net.minecraft.world.phys.Vec3 delta = to.subtract(from);
-        int steps = 2 + this.random.nextInt(3); // 2-4 points only
-        net.minecraft.world.phys.Vec3 step = delta.scale(1.0 / steps);
-        net.minecraft.world.phys.Vec3 pos = from;
-        net.minecraft.world.phys.Vec3 dir = step.lengthSqr() > 1.0e-6 ? step.normalize() : randomUnit(this.random);
-        for (int i = 0; i <= steps; i++) {
-            // Randomly pick arc type per point and randomly drop some points for a crackly feel
-            if (this.random.nextFloat() < 0.7f) {
-                if (this.random.nextBoolean()) {
-                    server.sendParticles(new LightningArcData(size),
-                            pos.x, pos.y, pos.z, 1, dir.x, dir.y, dir.z, 0.0);
-                } else {
-                    server.sendParticles(new LightningStormData(size),
-                            pos.x, pos.y, pos.z, 1, dir.x, dir.y, dir.z, 0.0);
-                }
-            }
-            pos = pos.add(step);
-        }
-    }
-    private static net.minecraft.world.phys.Vec3 randomUnit(net.minecraft.util.RandomSource rnd) {
-        double u = rnd.nextDouble();
-        double v = rnd.nextDouble();
-        double theta = 2 * Math.PI * u;
-        double z = 2 * v - 1;
-        double r = Math.sqrt(1 - z * z);
-        return new net.minecraft.world.phys.Vec3(r * Math.cos(theta), z, r * Math.sin(theta));
+        com.leon.saintsdragons.common.network.MessageArcBurst.send(server,
+                com.leon.saintsdragons.common.network.MessageArcBurst.sparks(center, radius, bursts, 0.5f, this.random.nextLong()));
     }
 
     // ===== SLEEPING =====
     public boolean isSleeping() {
-        return this.entityData.get(DATA_SLEEPING);
+        return getFlag(FLAG_SLEEPING);
     }
     public void setSleeping(boolean sleeping) {
-        this.entityData.set(DATA_SLEEPING, sleeping);
+        setFlag(FLAG_SLEEPING, sleeping);
     }
     public boolean isSleepTransitioning() {
         return sleepingEntering || sleepingExiting;
@@ -1575,33 +1414,47 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     public void startSleepEnter() {
         if (isSleeping() || sleepingEntering || sleepingExiting) return;
         sleepingEntering = true;
-        sleepTransitionTicks = 81; // ~4.021s (enter)
+        timers.start(Timer.SLEEP_TRANSITION, 81); // ~4.021s (enter)
         triggerAnim("action", "sleep_enter");
     }
     public void startSleepExit() {
         if ((!isSleeping() && !sleepingEntering) || sleepingExiting) return;
         // stop sleep loop and transition out
-        this.entityData.set(DATA_SLEEPING, false);
+        setFlag(FLAG_SLEEPING, false);
         sleepingEntering = false;
         sleepingExiting = true;
-        sleepTransitionTicks = 122; // ~6.075s (exit)
+        timers.start(Timer.SLEEP_TRANSITION, 122); // ~6.075s (exit)
         triggerAnim("action", "sleep_exit");
     }
 
     /** Immediately cancel any sleep state/transition without playing animations. */
     public void wakeUpImmediately() {
-        this.entityData.set(DATA_SLEEPING, false);
+        setFlag(FLAG_SLEEPING, false);
         sleepingEntering = false;
         sleepingExiting = false;
-        sleepTransitionTicks = 0;
-        sleepCancelTicks = 2; // ensure controllers STOP for a couple ticks to flush animation
+        timers.cancel(Timer.SLEEP_TRANSITION);
+        timers.start(Timer.SLEEP_CANCEL, 2); // ensure controllers STOP for a couple ticks to flush animation
+    }
+
+    // SLEEP_TRANSITION expiry
+    private void finishSleepTransition() {
+        if (sleepingEntering) {
+            // Enter finished: mark sleeping
+            setSleeping(true);
+            sleepingEntering = false;
+        } else if (sleepingExiting) {
+            // Exit finished
+            sleepingExiting = false;
+            // Start small ambient cooldown buffer (~0.5s)
+            timers.start(Timer.SLEEP_AMBIENT_COOLDOWN, 10);
+        }
     }
 
     public void suppressSleep(int ticks) {
-        sleepReentryCooldownTicks = Math.max(sleepReentryCooldownTicks, ticks);
+        timers.extend(Timer.SLEEP_REENTRY_COOLDOWN, ticks);
     }
     public boolean isSleepSuppressed() {
-        return sleepReentryCooldownTicks > 0;
+        return timers.isActive(Timer.SLEEP_REENTRY_COOLDOWN);
     }
 
     // ===== INTERACTION =====
@@ -1748,7 +1601,7 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         tag.putInt("TimeFlying", timeFlying);
         tag.putBoolean("UsingAirNav", usingAirNav);
         tag.putFloat("SitProgress", sitProgress);
-        tag.putInt("RiderTakeoffTicks", riderTakeoffTicks);
+        timers.save(tag, Timer.RIDER_TAKEOFF, "RiderTakeoffTicks");
         
         // Save critical flight state variables that were missing
         tag.putLong("LastLandingGameTime", lastLandingGameTime);
@@ -1756,26 +1609,26 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         tag.putInt("LandingTimer", landingTimer);
         
         // Save lock states
-        tag.putInt("RiderControlLockTicks", riderControlLockTicks);
-        tag.putInt("TakeoffLockTicks", takeoffLockTicks);
+        timers.save(tag, Timer.RIDER_CONTROL_LOCK, "RiderControlLockTicks");
+        timers.save(tag, Timer.TAKEOFF_LOCK, "TakeoffLockTicks");
 
         // Persist combat cooldowns
         this.combatManager.saveToNBT(tag);
 
         // Persist supercharge timer so logout/login doesn't clear buff early
-        tag.putInt("SuperchargeTicks", Math.max(0, this.superchargeTicks));
+        timers.save(tag, Timer.SUPERCHARGE, "SuperchargeTicks");
 
         // Persist temporary invulnerability timer (e.g., during Summon Storm windup)
-        tag.putInt("TempInvulnTicks", Math.max(0, this.tempInvulnTicks));
+        timers.save(tag, Timer.TEMP_INVULN, "TempInvulnTicks");
 
         // Persist sleep state and transition timers
         tag.putBoolean("Sleeping", this.isSleeping());
         tag.putBoolean("SleepingEntering", this.sleepingEntering);
         tag.putBoolean("SleepingExiting", this.sleepingExiting);
-        tag.putInt("SleepTransitionTicks", Math.max(0, this.sleepTransitionTicks));
-        tag.putInt("SleepAmbientCooldownTicks", Math.max(0, this.sleepAmbientCooldownTicks));
-        tag.putInt("SleepReentryCooldownTicks", Math.max(0, this.sleepReentryCooldownTicks));
-        tag.putInt("SleepCancelTicks", Math.max(0, this.sleepCancelTicks));
+        timers.save(tag, Timer.SLEEP_TRANSITION, "SleepTransitionTicks");
+        timers.save(tag, Timer.SLEEP_AMBIENT_COOLDOWN, "SleepAmbientCooldownTicks");
+        timers.save(tag, Timer.SLEEP_REENTRY_COOLDOWN, "SleepReentryCooldownTicks");
+        timers.save(tag, Timer.SLEEP_CANCEL, "SleepCancelTicks");
         
         animationController.writeToNBT(tag);
     }
@@ -1792,7 +1645,7 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         this.usingAirNav = tag.getBoolean("UsingAirNav");
         this.sitProgress = tag.getFloat("SitProgress");
         this.prevSitProgress = this.sitProgress;
-        this.riderTakeoffTicks = tag.contains("RiderTakeoffTicks") ? tag.getInt("RiderTakeoffTicks") : 0;
+        timers.load(tag, Timer.RIDER_TAKEOFF, "RiderTakeoffTicks");
         
         // Restore critical flight state variables that were missing
         this.lastLandingGameTime = tag.contains("LastLandingGameTime") ? tag.getLong("LastLandingGameTime") : Long.MIN_VALUE;
@@ -1800,37 +1653,30 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         this.landingTimer = tag.contains("LandingTimer") ? tag.getInt("LandingTimer") : 0;
         
         // Restore lock states
-        this.riderControlLockTicks = tag.contains("RiderControlLockTicks") ? tag.getInt("RiderControlLockTicks") : 0;
-        this.takeoffLockTicks = tag.contains("TakeoffLockTicks") ? tag.getInt("TakeoffLockTicks") : 0;
+        timers.load(tag, Timer.RIDER_CONTROL_LOCK, "RiderControlLockTicks");
+        timers.load(tag, Timer.TAKEOFF_LOCK, "TakeoffLockTicks");
 
         // Restore combat cooldowns
         this.combatManager.loadFromNBT(tag);
 
         // Restore supercharge timer if present
-        if (tag.contains("SuperchargeTicks")) {
-            this.superchargeTicks = Math.max(0, tag.getInt("SuperchargeTicks"));
-            if (this.superchargeTicks > 0) {
-                // Ensure invulnerability state is consistent if it was set earlier elsewhere
-                // (No invuln implied by supercharge; leave as-is)
-            }
-        }
+        // (No invuln implied by supercharge; leave as-is)
+        timers.load(tag, Timer.SUPERCHARGE, "SuperchargeTicks");
 
         // Restore temporary invulnerability
-        if (tag.contains("TempInvulnTicks")) {
-            this.tempInvulnTicks = Math.max(0, tag.getInt("TempInvulnTicks"));
-            if (this.tempInvulnTicks > 0) {
-                this.setInvulnerable(true);
-            }
+        timers.load(tag, Timer.TEMP_INVULN, "TempInvulnTicks");
+        if (timers.isActive(Timer.TEMP_INVULN)) {
+            this.setInvulnerable(true);
         }
 
         // Restore sleep state and transition timers
         if (tag.contains("Sleeping")) this.setSleeping(tag.getBoolean("Sleeping"));
         this.sleepingEntering = tag.getBoolean("SleepingEntering");
         this.sleepingExiting = tag.getBoolean("SleepingExiting");
-        this.sleepTransitionTicks = Math.max(0, tag.getInt("SleepTransitionTicks"));
-        this.sleepAmbientCooldownTicks = Math.max(0, tag.getInt("SleepAmbientCooldownTicks"));
-        this.sleepReentryCooldownTicks = Math.max(0, tag.getInt("SleepReentryCooldownTicks"));
-        this.sleepCancelTicks = Math.max(0, tag.getInt("SleepCancelTicks"));
+        timers.load(tag, Timer.SLEEP_TRANSITION, "SleepTransitionTicks");
+        timers.load(tag, Timer.SLEEP_AMBIENT_COOLDOWN, "SleepAmbientCooldownTicks");
+        timers.load(tag, Timer.SLEEP_REENTRY_COOLDOWN, "SleepReentryCooldownTicks");
+        timers.load(tag, Timer.SLEEP_CANCEL, "SleepCancelTicks");
         
         animationController.readFromNBT(tag);
 
@@ -1842,9 +1688,9 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
 
         // If we saved while flying, keep the dragon in the air briefly after load
         if (tag.getBoolean("Flying")) {
-            this.postLoadAirStabilizeTicks = 40; // ~2 seconds of grace to receive rider inputs
+            timers.start(Timer.POST_LOAD_AIR_STABILIZE, 40); // ~2 seconds of grace to receive rider inputs
             // Also treat as takeoff for a short while to apply upward force
-            this.riderTakeoffTicks = Math.max(this.riderTakeoffTicks, 30);
+            timers.extend(Timer.RIDER_TAKEOFF, 30);
             
             // Ensure flight controller is properly reactivated for wild dragons
             if (!this.isTame() || this.getOwner() == null) {
@@ -1857,8 +1703,8 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     }
 
     // Rider takeoff window accessors for controllers
-    public int getRiderTakeoffTicks() { return riderTakeoffTicks; }
-    public void setRiderTakeoffTicks(int ticks) { this.riderTakeoffTicks = Math.max(0, ticks); }
+    public int getRiderTakeoffTicks() { return timers.remaining(Timer.RIDER_TAKEOFF); }
+    public void setRiderTakeoffTicks(int ticks) { timers.start(Timer.RIDER_TAKEOFF, ticks); }
 
 
 
@@ -2080,27 +1926,6 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
         }
         return cachedOwnerDistance;
     }
-    public List<Projectile> getCachedNearbyProjectiles() {
-        // Server-side only; clients don't need this heavy scan
-        if (!(this.level() instanceof net.minecraft.server.level.ServerLevel)) {
-            return java.util.Collections.emptyList();
-        }
-        if (tickCount - nearbyProjectilesCacheTime >= projectileCacheIntervalTicks) {
-            List<Projectile> found = DragonMathUtil.getEntitiesNearby(this, Projectile.class, 30.0);
-            cachedNearbyProjectiles = found;
-            nearbyProjectilesCacheTime = tickCount;
-
-            if (found.isEmpty()) {
-                emptyProjectileScans = Math.min(emptyProjectileScans + 1, 4);
-                // Back off up to ~11 ticks when calm (3,5,7,9,11)
-                projectileCacheIntervalTicks = 3 + (emptyProjectileScans * 2);
-            } else {
-                emptyProjectileScans = 0;
-                projectileCacheIntervalTicks = 3;
-            }
-        }
-        return cachedNearbyProjectiles;
-    }
     // DYNAMIC EYE HEIGHT SYSTEM
     private float cachedEyeHeight = 0f; // Will be calculated dynamically from renderer
 
@@ -2109,35 +1934,43 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     }
 
     // While > 0, rider input is ignored to keep action animation coherent (e.g., roar)
-    private int riderControlLockTicks = 0;
-    public boolean areRiderControlsLocked() { return riderControlLockTicks > 0; }
-    private void tickRiderControlLock() { if (riderControlLockTicks > 0) riderControlLockTicks--; }
-    public void lockRiderControls(int ticks) { this.riderControlLockTicks = Math.max(this.riderControlLockTicks, Math.max(0, ticks)); }
+    public boolean areRiderControlsLocked() { return timers.isActive(Timer.RIDER_CONTROL_LOCK); }
+    public void lockRiderControls(int ticks) { timers.extend(Timer.RIDER_CONTROL_LOCK, ticks); }
     
     // While > 0, only takeoff is locked (allows running/movement during roar)
-    private int takeoffLockTicks = 0;
-    public boolean isTakeoffLocked() { return takeoffLockTicks > 0; }
-    public void lockTakeoff(int ticks) { this.takeoffLockTicks = Math.max(this.takeoffLockTicks, Math.max(0, ticks)); }
-    private void tickTakeoffLock() { if (takeoffLockTicks > 0) takeoffLockTicks--; }
+    public boolean isTakeoffLocked() { return timers.isActive(Timer.TAKEOFF_LOCK); }
+    public void lockTakeoff(int ticks) { timers.extend(Timer.TAKEOFF_LOCK, ticks); }
 
     // ===== RECENT AGGRO TRACKING (for roar lightning targeting) =====
-    private final java.util.Map<Integer, Long> recentAggroIds = new java.util.HashMap<>();
+    // Held by reference so reading it back needs no entity lookups; expired or removed entries are
+    // pruned on read, and on write once the map outgrows its watermark (noteAggroFrom runs on every hit)
+    private final java.util.Map<net.minecraft.world.entity.LivingEntity, Long> recentAggro = new java.util.IdentityHashMap<>();
     private static final int AGGRO_TTL_TICKS = 200; // ~10s
+    private static final int AGGRO_PRUNE_MIN = 16;
+    private int aggroPruneAt = AGGRO_PRUNE_MIN;
 
     public void noteAggroFrom(net.minecraft.world.entity.LivingEntity target) {
         if (target == null || target.level().isClientSide) return;
-        recentAggroIds.put(target.getId(), this.level().getGameTime() + AGGRO_TTL_TICKS);
+        long now = this.level().getGameTime();
+        if (recentAggro.put(target, now + AGGRO_TTL_TICKS) == null && recentAggro.size() > aggroPruneAt) {
+            pruneRecentAggro(now);
+            // Doubling keeps pruning amortized O(1) per hit even when every entry is live
+            aggroPruneAt = Math.max(AGGRO_PRUNE_MIN, recentAggro.size() * 2);
+        }
+    }
+
+    private void pruneRecentAggro(long now) {
+        recentAggro.entrySet().removeIf(e -> {
+            net.minecraft.world.entity.LivingEntity le = e.getKey();
+            return e.getValue() < now || le.isRemoved() || le.level() != this.level();
+        });
     }
 
     public java.util.List<net.minecraft.world.entity.LivingEntity> getRecentAggro() {
-        java.util.List<net.minecraft.world.entity.LivingEntity> out = new java.util.ArrayList<>();
-        long now = this.level().getGameTime();
-        java.util.Iterator<java.util.Map.Entry<Integer, Long>> it = recentAggroIds.entrySet().iterator();
-        while (it.hasNext()) {
-            var e = it.next();
-            if (e.getValue() < now) { it.remove(); continue; }
-            net.minecraft.world.entity.Entity ent = this.level().getEntity(e.getKey());
-            if (ent instanceof net.minecraft.world.entity.LivingEntity le && le.isAlive()) {
+        pruneRecentAggro(this.level().getGameTime());
+        java.util.List<net.minecraft.world.entity.LivingEntity> out = new java.util.ArrayList<>(recentAggro.size());
+        for (net.minecraft.world.entity.LivingEntity le : recentAggro.keySet()) {
+            if (le.isAlive()) {
                 out.add(le);
             }
         }
@@ -2197,11 +2030,6 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
     @Override
     protected void tickRidden(@NotNull Player player, @NotNull Vec3 travelVector) {
         super.tickRidden(player, travelVector);
-        // Decrement locks on server authority
-        if (!this.level().isClientSide) {
-            tickRiderControlLock();
-            tickTakeoffLock();
-        }
         if (!areRiderControlsLocked()) {
             riderController.tickRidden(player, travelVector);
         } else {
@@ -2244,11 +2072,10 @@ public class LightningDragonEntity extends DragonEntity implements FlyingAnimal,
             this.entityData.set(DATA_RIDER_FORWARD, 0f);
             this.entityData.set(DATA_RIDER_STRAFE, 0f);
             this.entityData.set(DATA_GROUND_MOVE_STATE, 0);
+            // Next rider starts a fresh input sequence
+            this.lastRiderInputSeq = -1;
             // Nudge observers so animation stops if we dismounted mid-run/walk
-            com.leon.saintsdragons.common.network.NetworkHandler.INSTANCE.send(
-                    net.minecraftforge.network.PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> this),
-                    new com.leon.saintsdragons.common.network.MessageDragonAnimState(this.getId(), (byte) 0, (byte) getSyncedFlightMode())
-            );
+            com.leon.saintsdragons.common.network.DragonAnimStateSync.markDirty(this, 0, getSyncedFlightMode());
         }
     }
     // Cooldown for aggro growl to prevent spam while ridden or under repeated retargeting
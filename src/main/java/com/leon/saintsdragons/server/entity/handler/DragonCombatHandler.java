@@ -1,34 +1,50 @@
 package com.leon.saintsdragons.server.entity.handler;
 
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
 import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
 import com.leon.saintsdragons.server.entity.ability.DragonAbility;
 import com.leon.saintsdragons.server.entity.ability.DragonAbilityType;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
- * Single responsibility: Track active ability and global cooldowns
+ * Single responsibility: Track active ability and global cooldowns.
+ * Cooldowns are stored as expiry game times (per-ability ones in a dense array indexed by
+ * AbilityRegistry id), so readiness is a comparison and nothing counts down per tick.
+ * Ability damage goes through a {@link DragonDamageQueue} that is applied once per tick.
  */
 public class DragonCombatHandler {
     private final LightningDragonEntity dragon;
     
     private DragonAbility<?> activeAbility;
-    private int globalCooldown = 0; // Global cooldown between any abilities
+    private long globalCooldownUntil = 0L; // Global cooldown between any abilities (game time)
     private boolean processingAbility = false; // Prevent re-entry during ability start
     
-    // Per-ability cooldown tracking
-    private final Map<DragonAbilityType<?, ?>, Integer> abilityCooldowns = new HashMap<>();
+    // Per-ability cooldown expiry game times, indexed by AbilityRegistry id (0 = ready)
+    private long[] abilityCooldownUntil = new long[0];
+
+    // Hits submitted by abilities this tick, applied after the active ability ticks
+    private final DragonDamageQueue damageQueue;
+
+    private long now() {
+        return dragon.level().getGameTime();
+    }
+
+    private int remaining(long until) {
+        return (int) Math.max(0L, until - now());
+    }
 
     // ===== PERSISTENCE =====
-    // Persist global + per-ability cooldowns across save/load
+    // Persist global + per-ability cooldowns across save/load (remaining ticks, keyed by ability name)
     public void saveToNBT(net.minecraft.nbt.CompoundTag tag) {
-        tag.putInt("GlobalAbilityCooldown", Math.max(0, globalCooldown));
+        tag.putInt("GlobalAbilityCooldown", remaining(globalCooldownUntil));
         net.minecraft.nbt.CompoundTag cd = new net.minecraft.nbt.CompoundTag();
-        for (Map.Entry<DragonAbilityType<?, ?>, Integer> e : abilityCooldowns.entrySet()) {
-            String name = com.leon.saintsdragons.common.registry.AbilityRegistry.getName(e.getKey());
+        for (int id = 0; id < abilityCooldownUntil.length; id++) {
+            int left = remaining(abilityCooldownUntil[id]);
+            if (left <= 0) continue;
+            String name = AbilityRegistry.getName(AbilityRegistry.byId(id));
             if (name != null && !name.isEmpty()) {
-                cd.putInt(name, Math.max(0, e.getValue()));
+                cd.putInt(name, left);
             }
         }
         if (!cd.isEmpty()) {
@@ -37,15 +53,15 @@ public class DragonCombatHandler {
     }
 
     public void loadFromNBT(net.minecraft.nbt.CompoundTag tag) {
-        this.globalCooldown = Math.max(0, tag.getInt("GlobalAbilityCooldown"));
-        this.abilityCooldowns.clear();
+        this.globalCooldownUntil = now() + Math.max(0, tag.getInt("GlobalAbilityCooldown"));
+        Arrays.fill(this.abilityCooldownUntil, 0L);
         if (tag.contains("AbilityCooldowns", net.minecraft.nbt.Tag.TAG_COMPOUND)) {
             net.minecraft.nbt.CompoundTag cd = tag.getCompound("AbilityCooldowns");
             for (String key : cd.getAllKeys()) {
-                var type = com.leon.saintsdragons.common.registry.AbilityRegistry.get(key);
+                var type = AbilityRegistry.get(key);
                 if (type != null) {
                     int val = Math.max(0, cd.getInt(key));
-                    if (val > 0) this.abilityCooldowns.put(type, val);
+                    if (val > 0) setAbilityCooldown(type, val);
                 }
             }
         }
@@ -53,6 +69,23 @@ public class DragonCombatHandler {
 
     public DragonCombatHandler(LightningDragonEntity dragon) {
         this.dragon = dragon;
+        this.damageQueue = new DragonDamageQueue(dragon);
+    }
+
+    /**
+     * Queue ability damage for the end of this tick instead of calling hurt directly.
+     * Chain knockback/armor pierce on the returned hit.
+     */
+    public DragonDamageQueue.Hit queueDamage(net.minecraft.world.entity.LivingEntity victim,
+                                             net.minecraft.world.damagesource.DamageSource source, float amount) {
+        return damageQueue.submit(victim, source, amount);
+    }
+
+    /**
+     * Drop queued hits without applying them (the dragon started dying, so tick() won't flush).
+     */
+    public void clearPendingDamage() {
+        damageQueue.clear();
     }
 
     public DragonAbility<?> getActiveAbility() {
@@ -68,14 +101,14 @@ public class DragonCombatHandler {
     }
 
     public boolean canUseAbility() {
-        return globalCooldown == 0 && (activeAbility == null || !activeAbility.isUsing()) && !processingAbility;
+        return now() >= globalCooldownUntil && (activeAbility == null || !activeAbility.isUsing()) && !processingAbility;
     }
     
     /**
      * Check if a specific ability type can be started (includes per-ability cooldown)
      */
     public boolean canStart(DragonAbilityType<?, ?> abilityType) {
-        return globalCooldown == 0
+        return now() >= globalCooldownUntil
             && activeAbility == null
             && !processingAbility
             && isAbilityCooldownReady(abilityType);
@@ -85,14 +118,20 @@ public class DragonCombatHandler {
      * Check if a specific ability's cooldown is ready
      */
     public boolean isAbilityCooldownReady(DragonAbilityType<?, ?> abilityType) {
-        return abilityCooldowns.getOrDefault(abilityType, 0) <= 0;
+        int id = AbilityRegistry.getId(abilityType);
+        return id < 0 || id >= abilityCooldownUntil.length || now() >= abilityCooldownUntil[id];
     }
     
     /**
      * Set cooldown for a specific ability type
      */
     public void setAbilityCooldown(DragonAbilityType<?, ?> abilityType, int cooldownTicks) {
-        abilityCooldowns.put(abilityType, cooldownTicks);
+        int id = AbilityRegistry.getId(abilityType);
+        if (id < 0) return;
+        if (id >= abilityCooldownUntil.length) {
+            abilityCooldownUntil = Arrays.copyOf(abilityCooldownUntil, id + 1);
+        }
+        abilityCooldownUntil[id] = now() + Math.max(0, cooldownTicks);
     }
 
     public void tryUseAbility(DragonAbilityType<?, ?> abilityType) {
@@ -102,7 +141,7 @@ public class DragonCombatHandler {
         processingAbility = true; // Guard against re-entry
         try {
             @SuppressWarnings("unchecked")
-            var ability = ((DragonAbilityType<LightningDragonEntity, ?>) abilityType).makeInstance(dragon);
+            var ability = dragon.getAbilityInstance((DragonAbilityType<LightningDragonEntity, ?>) abilityType);
             
             if (ability.tryAbility()) {
                 // Set ability active IMMEDIATELY to prevent race conditions
@@ -124,28 +163,14 @@ public class DragonCombatHandler {
     // Removed unused target validation stub
 
     public void tick() {
-        if (globalCooldown > 0) {
-            globalCooldown--;
-        }
-        
-        // Tick down per-ability cooldowns
-        abilityCooldowns.entrySet().removeIf(entry -> {
-            int newValue = entry.getValue() - 1;
-            if (newValue <= 0) {
-                return true; // Remove from map when cooldown reaches 0
-            } else {
-                entry.setValue(newValue);
-                return false;
-            }
-        });
-        
+        // Cooldowns are expiry times; nothing to count down here
         if (activeAbility != null) {
             if (activeAbility.isUsing()) {
                 activeAbility.tick();
             } else {
                 // Ability finished, set a small fixed global cooldown between abilities
                 // ~0.3s between abilities
-                globalCooldown = 6;
+                globalCooldownUntil = now() + 6;
                 // Apply per-ability cooldown based on the finished ability's configured cooldown
                 DragonAbilityType<?, ?> finishedType = getActiveAbilityType();
                 if (finishedType != null) {
@@ -154,5 +179,6 @@ public class DragonCombatHandler {
                 activeAbility = null;
             }
         }
+        damageQueue.flush();
     }
 }
@@ -0,0 +1,168 @@
+package com.leon.saintsdragons.server.entity.handler;
+
+import com.leon.saintsdragons.server.entity.dragons.lightningdragon.LightningDragonEntity;
+import net.minecraft.tags.DamageTypeTags;
+import net.minecraft.world.damagesource.CombatRules;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-tick damage queue for a dragon's abilities. Abilities submit hits instead of calling
+ * {@link LivingEntity#hurt} themselves; {@link DragonCombatHandler} flushes the queue once per tick,
+ * after the active ability has ticked. Hits on the same victim with the same damage type are merged,
+ * so each victim takes at most one hurt call per damage type per tick, followed by knockback.
+ */
+public class DragonDamageQueue {
+
+    /** One pending hit. Modifiers chain, and merge sensibly when the same victim is hit again this tick. */
+    public static final class Hit {
+        final LivingEntity victim;
+        final DamageSource source;
+        float amount;
+        float armorPierce;
+        float knockback;
+        double knockbackX;
+        double knockbackZ;
+        double pushX;
+        double pushY;
+        double pushZ;
+        double minLift = Double.NaN;
+        Hit nextForVictim;
+
+        Hit(LivingEntity victim, DamageSource source, float amount) {
+            this.victim = victim;
+            this.source = source;
+            this.amount = amount;
+        }
+
+        /** Ignore this many armor points; the raw amount is raised so the victim's real armor leaves that result. */
+        public Hit armorPierce(float points) {
+            armorPierce = Math.max(armorPierce, points);
+            return this;
+        }
+
+        /** Vanilla knockback, applied opposite to (x, z) like {@link LivingEntity#knockback}. Strongest wins. */
+        public Hit knockback(float strength, double x, double z) {
+            if (strength >= knockback) {
+                knockback = strength;
+                knockbackX = x;
+                knockbackZ = z;
+            }
+            return this;
+        }
+
+        /** Velocity nudge via {@link LivingEntity#push}; pushes add up. */
+        public Hit push(double x, double y, double z) {
+            pushX += x;
+            pushY += y;
+            pushZ += z;
+            return this;
+        }
+
+        /** Raise the victim's vertical velocity to at least this value after knockback. */
+        public Hit lift(double minY) {
+            minLift = Double.isNaN(minLift) ? minY : Math.max(minLift, minY);
+            return this;
+        }
+    }
+
+    private final LightningDragonEntity dragon;
+    private final List<Hit> pending = new ArrayList<>();
+    private final Map<LivingEntity, Hit> byVictim = new IdentityHashMap<>();
+
+    public DragonDamageQueue(LightningDragonEntity dragon) {
+        this.dragon = dragon;
+    }
+
+    /**
+     * Queue {@code amount} damage for the end of this tick. A second hit on the same victim with the
+     * same damage type adds to the first instead of becoming another hurt call.
+     */
+    public Hit submit(LivingEntity victim, DamageSource source, float amount) {
+        Hit head = byVictim.get(victim);
+        for (Hit h = head; h != null; h = h.nextForVictim) {
+            if (h.source.type() == source.type() && h.source.getEntity() == source.getEntity()) {
+                h.amount += amount;
+                return h;
+            }
+        }
+        Hit hit = new Hit(victim, source, amount);
+        hit.nextForVictim = head;
+        byVictim.put(victim, hit);
+        pending.add(hit);
+        return hit;
+    }
+
+    /** Apply every queued hit in submission order, then clear. */
+    public void flush() {
+        if (pending.isEmpty()) return;
+        // Copy out first: hurt() can fire events that queue more hits for the next tick
+        Hit[] hits = pending.toArray(new Hit[0]);
+        pending.clear();
+        byVictim.clear();
+        for (Hit hit : hits) {
+            LivingEntity victim = hit.victim;
+            if (!victim.isAlive()) continue;
+            victim.hurt(hit.source, rawAmount(hit));
+            dragon.noteAggroFrom(victim);
+            if (hit.knockback > 0f) {
+                victim.knockback(hit.knockback, hit.knockbackX, hit.knockbackZ);
+            }
+            if (hit.pushX != 0.0 || hit.pushY != 0.0 || hit.pushZ != 0.0) {
+                victim.push(hit.pushX, hit.pushY, hit.pushZ);
+            }
+            if (!Double.isNaN(hit.minLift)) {
+                var dv = victim.getDeltaMovement();
+                victim.setDeltaMovement(dv.x, Math.max(dv.y, hit.minLift), dv.z);
+            }
+        }
+    }
+
+    public void clear() {
+        pending.clear();
+        byVictim.clear();
+    }
+
+    private static float rawAmount(Hit hit) {
+        if (hit.armorPierce <= 0f || hit.source.is(DamageTypeTags.BYPASSES_ARMOR)) {
+            return hit.amount;
+        }
+        float armor = (float) hit.victim.getAttributeValue(Attributes.ARMOR);
+        float toughness = (float) hit.victim.getAttributeValue(Attributes.ARMOR_TOUGHNESS);
+        if (armor <= 0f) return hit.amount;
+        float desired = CombatRules.getDamageAfterAbsorb(hit.amount, Math.max(0f, armor - hit.armorPierce), toughness);
+        return rawDamageForPostArmor(desired, armor, toughness);
+    }
+
+    /**
+     * Closed-form inverse of {@link CombatRules#getDamageAfterAbsorb}: the raw damage that leaves
+     * {@code post} after the given armor and toughness. Vanilla clamps the armor reduction
+     * r = armor - raw / f (f = 2 + toughness / 4) to [armor / 5, 20], so the curve has three pieces:
+     * a flat 80% reduction below raw = (armor - 20) * f, a quadratic middle, and a linear tail
+     * above raw = 0.8 * armor * f.
+     */
+    static float rawDamageForPostArmor(float post, float armor, float toughness) {
+        if (post <= 0f) return 0f;
+        double f = 2.0 + toughness / 4.0;
+        // Reduction capped at 20 points (only reachable above 20 armor)
+        double capEnd = (armor - 20.0) * f;
+        if (capEnd > 0.0 && post <= capEnd / 5.0) {
+            return (float) (post * 5.0);
+        }
+        // Reduction floored at armor / 5
+        double floorStart = 0.8 * armor * f;
+        double floorPost = floorStart * (1.0 - armor / 125.0);
+        if (post >= floorPost) {
+            return (float) (post / (1.0 - armor / 125.0));
+        }
+        // post = raw * (1 - (armor - raw / f) / 25)  =>  raw^2 + f * (25 - armor) * raw - 25 * f * post = 0
+        double b = f * (25.0 - armor);
+        return (float) ((-b + Math.sqrt(b * b + 100.0 * f * post)) * 0.5);
+    }
+}
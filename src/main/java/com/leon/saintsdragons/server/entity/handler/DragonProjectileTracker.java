@@ -0,0 +1,181 @@
+package com.leon.saintsdragons.server.entity.handler;
+
+import com.leon.saintsdragons.SaintsDragons;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.projectile.Projectile;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-level registry of loaded projectiles, kept up to date by join/leave events so dragons
+ * never have to scan the world for them. Projectiles that stop moving (arrows stuck in blocks)
+ * are parked out of the working set and rechecked once a second. Moving ones are bucketed into
+ * 16-block cells, rebuilt at most once per game tick, reusing the bucket lists, and only when
+ * someone asks. With nothing in flight a query is an empty check, plus a pass over the parked
+ * set once a second.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class DragonProjectileTracker {
+    private DragonProjectileTracker() {}
+
+    // Below this many projectiles a straight scan beats walking the cells
+    private static final int LINEAR_SCAN_LIMIT = 32;
+    // How often parked (resting) projectiles are checked for moving again
+    private static final int PARKED_RECHECK_TICKS = 20;
+
+    private static final class LevelProjectiles {
+        // Projectiles that moved last tick; only these are bucketed and returned
+        final Set<Projectile> all = new LinkedHashSet<>();
+        // Resting projectiles (arrows stuck in blocks, settled items), kept so they can rejoin if knocked loose
+        final Set<Projectile> parked = new LinkedHashSet<>();
+        final Long2ObjectOpenHashMap<List<Projectile>> cells = new Long2ObjectOpenHashMap<>();
+        // Cleared bucket lists from the previous rebuild, reused instead of reallocated
+        final ArrayDeque<List<Projectile>> spare = new ArrayDeque<>();
+        long refreshedAt = Long.MIN_VALUE;
+        long bucketedAt = Long.MIN_VALUE;
+
+        /** Park projectiles that stopped moving and wake parked ones that started again. Once per tick. */
+        void refresh(long gameTime) {
+            if (refreshedAt == gameTime) return;
+            refreshedAt = gameTime;
+            boolean changed = false;
+            for (Iterator<Projectile> it = all.iterator(); it.hasNext(); ) {
+                Projectile p = it.next();
+                if (isResting(p)) {
+                    it.remove();
+                    parked.add(p);
+                    changed = true;
+                }
+            }
+            if (!parked.isEmpty() && gameTime % PARKED_RECHECK_TICKS == 0) {
+                for (Iterator<Projectile> it = parked.iterator(); it.hasNext(); ) {
+                    Projectile p = it.next();
+                    if (!isResting(p)) {
+                        it.remove();
+                        all.add(p);
+                        changed = true;
+                    }
+                }
+            }
+            if (changed) bucketedAt = Long.MIN_VALUE;
+        }
+
+        void rebucket(long gameTime) {
+            if (bucketedAt == gameTime) return;
+            bucketedAt = gameTime;
+            for (List<Projectile> list : cells.values()) {
+                list.clear();
+                spare.push(list);
+            }
+            cells.clear();
+            for (Projectile p : all) {
+                long key = SectionPos.asLong(SectionPos.blockToSectionCoord(p.getX()),
+                        SectionPos.blockToSectionCoord(p.getY()),
+                        SectionPos.blockToSectionCoord(p.getZ()));
+                List<Projectile> cell = cells.get(key);
+                if (cell == null) {
+                    cell = spare.isEmpty() ? new ArrayList<>(4) : spare.pop();
+                    cells.put(key, cell);
+                }
+                cell.add(p);
+            }
+        }
+
+        void remove(Projectile p) {
+            if (all.remove(p)) {
+                bucketedAt = Long.MIN_VALUE;
+            } else {
+                parked.remove(p);
+            }
+        }
+    }
+
+    // Didn't move over its last tick (xo/yo/zo are the position before it); fresh spawns haven't ticked yet
+    private static boolean isResting(Projectile p) {
+        return p.tickCount > 0 && p.getX() == p.xo && p.getY() == p.yo && p.getZ() == p.zo;
+    }
+
+    private static final Map<Level, LevelProjectiles> LEVELS = new IdentityHashMap<>();
+
+    @SubscribeEvent
+    public static void onJoin(EntityJoinLevelEvent event) {
+        if (event.getLevel().isClientSide) return;
+        if (event.getEntity() instanceof Projectile p) {
+            LevelProjectiles lp = LEVELS.computeIfAbsent(event.getLevel(), l -> new LevelProjectiles());
+            lp.all.add(p);
+            lp.bucketedAt = Long.MIN_VALUE;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide) return;
+        if (event.getEntity() instanceof Projectile p) {
+            LevelProjectiles lp = LEVELS.get(event.getLevel());
+            if (lp != null) lp.remove(p);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            LEVELS.remove(level);
+        }
+    }
+
+    /**
+     * Live projectiles within {@code radius} of {@code center}. Server thread only.
+     */
+    public static List<Projectile> getNearby(ServerLevel level, Vec3 center, double radius) {
+        LevelProjectiles lp = LEVELS.get(level);
+        if (lp == null || (lp.all.isEmpty() && lp.parked.isEmpty())) return Collections.emptyList();
+        lp.refresh(level.getGameTime());
+        if (lp.all.isEmpty()) return Collections.emptyList();
+
+        double r2 = radius * radius;
+        List<Projectile> out = new ArrayList<>();
+        if (lp.all.size() <= LINEAR_SCAN_LIMIT) {
+            for (Projectile p : lp.all) {
+                if (p.isAlive() && p.distanceToSqr(center) <= r2) out.add(p);
+            }
+            return out;
+        }
+
+        lp.rebucket(level.getGameTime());
+        int minX = SectionPos.blockToSectionCoord(center.x - radius);
+        int maxX = SectionPos.blockToSectionCoord(center.x + radius);
+        int minY = SectionPos.blockToSectionCoord(center.y - radius);
+        int maxY = SectionPos.blockToSectionCoord(center.y + radius);
+        int minZ = SectionPos.blockToSectionCoord(center.z - radius);
+        int maxZ = SectionPos.blockToSectionCoord(center.z + radius);
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    List<Projectile> cell = lp.cells.get(SectionPos.asLong(cx, cy, cz));
+                    if (cell == null) continue;
+                    for (Projectile p : cell) {
+                        if (p.isAlive() && p.distanceToSqr(center) <= r2) out.add(p);
+                    }
+                }
+            }
+        }
+        return out;
+    }
+}
@@ -23,9 +23,9 @@ public class DragonSoundHandler {
     private static class PendingStep {
         String key;      // "step1"/"step2" or "run_step1"/"run_step2"
         String locator;
-        int ticksLeft;
-        PendingStep(String key, String locator, int ticksLeft) {
-            this.key = key; this.locator = locator; this.ticksLeft = ticksLeft;
+        long playAt;     // dragon tickCount to play on
+        PendingStep(String key, String locator, long playAt) {
+            this.key = key; this.locator = locator; this.playAt = playAt;
         }
     }
     private PendingStep pendingStep1 = null;
@@ -37,15 +37,17 @@ public class DragonSoundHandler {
 
     /** Call every entity tick to process any pending delayed footsteps */
     public void tick() {
+        if (pendingStep1 == null && pendingStep2 == null) return;
         if (dragon.isDying()) { pendingStep1 = null; pendingStep2 = null; return; }
+        long now = dragon.tickCount;
         if (pendingStep1 != null) {
-            if (--pendingStep1.ticksLeft <= 0) {
+            if (now >= pendingStep1.playAt) {
                 actuallyPlayStep(pendingStep1.key, pendingStep1.locator);
                 pendingStep1 = null;
             }
         }
         if (pendingStep2 != null) {
-            if (--pendingStep2.ticksLeft <= 0) {
+            if (now >= pendingStep2.playAt) {
                 actuallyPlayStep(pendingStep2.key, pendingStep2.locator);
                 pendingStep2 = null;
             }
@@ -223,7 +225,7 @@ public class DragonSoundHandler {
                 int delay = requiredDelayTicks(now - lastStep1Tick, desired);
                 String k2 = key.startsWith("run_step") ? "run_step2" : "step2";
                 if (delay > 0) {
-                    pendingStep2 = new PendingStep(k2, locator, delay);
+                    pendingStep2 = new PendingStep(k2, locator, now + delay);
                 } else {
                     actuallyPlayStep(k2, locator);
                 }
@@ -239,7 +241,7 @@ public class DragonSoundHandler {
                 assert key != null;
                 String k1 = key.startsWith("run_step") ? "run_step1" : "step1";
                 if (delay > 0) {
-                    pendingStep1 = new PendingStep(k1, locator, delay);
+                    pendingStep1 = new PendingStep(k1, locator, now + delay);
                 } else {
                     actuallyPlayStep(k1, locator);
                 }
@@ -0,0 +1,150 @@
+package com.leon.saintsdragons.server.entity.handler;
+
+import com.leon.saintsdragons.SaintsDragons;
+import com.leon.saintsdragons.common.network.MessageLightningStrike;
+import com.leon.saintsdragons.common.network.MessageStormCells;
+import com.leon.saintsdragons.common.network.NetworkHandler;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.network.PacketDistributor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Localized storms. Summon Storm registers a cell (center, radius, expiry) instead of turning on
+ * dimension-wide thunder; the cell drives ambient lightning inside it, supercharge effects for
+ * dragons standing in it, and client-side rain/thunder for players under it (cells are synced
+ * per dimension). With no cells in a level every query is a single map lookup.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class DragonStormCells {
+    private DragonStormCells() {}
+
+    public record Cell(double x, double z, float radius, long expiresAt) {
+        public boolean contains(double px, double pz) {
+            double dx = px - x;
+            double dz = pz - z;
+            return dx * dx + dz * dz <= (double) radius * radius;
+        }
+    }
+
+    // Roughly one ambient bolt every 3 seconds per cell
+    private static final int AMBIENT_STRIKE_CHANCE = 60;
+
+    private static final Map<Level, List<Cell>> LEVELS = new IdentityHashMap<>();
+
+    /**
+     * Start a storm around (x, z). Summoning inside an existing cell refreshes and widens it
+     * rather than stacking a second one.
+     */
+    public static void summon(ServerLevel level, double x, double z, float radius, int ticks) {
+        List<Cell> cells = LEVELS.computeIfAbsent(level, l -> new ArrayList<>(2));
+        long expiresAt = level.getGameTime() + ticks;
+        for (int i = 0; i < cells.size(); i++) {
+            Cell c = cells.get(i);
+            if (c.contains(x, z)) {
+                cells.set(i, new Cell(c.x(), c.z(), Math.max(c.radius(), radius), Math.max(c.expiresAt(), expiresAt)));
+                sync(level);
+                return;
+            }
+        }
+        cells.add(new Cell(x, z, radius, expiresAt));
+        sync(level);
+    }
+
+    public static boolean isInStorm(Level level, double x, double z) {
+        List<Cell> cells = LEVELS.get(level);
+        if (cells == null) return false;
+        for (Cell c : cells) {
+            if (c.contains(x, z)) return true;
+        }
+        return false;
+    }
+
+    public static List<Cell> getCells(Level level) {
+        List<Cell> cells = LEVELS.get(level);
+        return cells != null ? Collections.unmodifiableList(cells) : Collections.emptyList();
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !(event.level instanceof ServerLevel level)) return;
+        List<Cell> cells = LEVELS.get(level);
+        if (cells == null) return;
+
+        long now = level.getGameTime();
+        boolean changed = false;
+        for (Iterator<Cell> it = cells.iterator(); it.hasNext(); ) {
+            Cell c = it.next();
+            if (now >= c.expiresAt()) {
+                it.remove();
+                changed = true;
+                continue;
+            }
+            if (level.random.nextInt(AMBIENT_STRIKE_CHANCE) == 0) {
+                ambientStrike(level, c);
+            }
+        }
+        if (cells.isEmpty()) LEVELS.remove(level);
+        if (changed) sync(level);
+    }
+
+    // Visual-only bolt somewhere in the cell; only players near it receive anything
+    private static void ambientStrike(ServerLevel level, Cell c) {
+        double angle = level.random.nextDouble() * Math.PI * 2.0;
+        double dist = Math.sqrt(level.random.nextDouble()) * c.radius();
+        int bx = (int) Math.floor(c.x() + Math.cos(angle) * dist);
+        int bz = (int) Math.floor(c.z() + Math.sin(angle) * dist);
+        if (!level.hasChunkAt(new BlockPos(bx, 0, bz))) return;
+        int by = level.getHeight(Heightmap.Types.MOTION_BLOCKING, bx, bz);
+        MessageLightningStrike.send(level, new MessageLightningStrike(bx + 0.5, by, bz + 0.5));
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            LEVELS.remove(level);
+        }
+    }
+
+    // ===== Client sync =====
+
+    private static void sync(ServerLevel level) {
+        NetworkHandler.INSTANCE.send(PacketDistributor.DIMENSION.with(level::dimension),
+                MessageStormCells.of(getCells(level), level.getGameTime()));
+    }
+
+    private static void syncTo(ServerPlayer player) {
+        ServerLevel level = player.serverLevel();
+        NetworkHandler.INSTANCE.send(PacketDistributor.PLAYER.with(() -> player),
+                MessageStormCells.of(getCells(level), level.getGameTime()));
+    }
+
+    @SubscribeEvent
+    public static void onLogin(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) syncTo(player);
+    }
+
+    @SubscribeEvent
+    public static void onChangedDimension(PlayerEvent.PlayerChangedDimensionEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) syncTo(player);
+    }
+
+    @SubscribeEvent
+    public static void onRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player) syncTo(player);
+    }
+}
@@ -0,0 +1,119 @@
+package com.leon.saintsdragons.server.entity.handler;
+
+import com.leon.saintsdragons.SaintsDragons;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.entity.living.LivingChangeTargetEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-level reverse index of "who targets whom", fed by target-change events, so finding every mob
+ * chasing a dragon or its rider is a lookup instead of a world scan. Entries are re-validated against
+ * {@link Mob#getTarget()} on read, which also drops any change the event didn't see.
+ */
+@Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class DragonTargetIndex {
+    private DragonTargetIndex() {}
+
+    private static final class LevelTargets {
+        final Map<LivingEntity, Set<Mob>> attackersByTarget = new IdentityHashMap<>();
+        final Map<Mob, LivingEntity> targetByAttacker = new IdentityHashMap<>();
+
+        void set(Mob attacker, LivingEntity target) {
+            LivingEntity previous = target != null
+                    ? targetByAttacker.put(attacker, target)
+                    : targetByAttacker.remove(attacker);
+            if (previous == target) return;
+            if (previous != null) unlink(attacker, previous);
+            if (target != null) {
+                attackersByTarget.computeIfAbsent(target, t -> new LinkedHashSet<>(4)).add(attacker);
+            }
+        }
+
+        void unlink(Mob attacker, LivingEntity target) {
+            Set<Mob> attackers = attackersByTarget.get(target);
+            if (attackers != null && attackers.remove(attacker) && attackers.isEmpty()) {
+                attackersByTarget.remove(target);
+            }
+        }
+
+        void remove(LivingEntity entity) {
+            if (entity instanceof Mob mob) set(mob, null);
+            Set<Mob> attackers = attackersByTarget.remove(entity);
+            if (attackers != null) {
+                for (Mob m : attackers) targetByAttacker.remove(m);
+            }
+        }
+    }
+
+    private static final Map<Level, LevelTargets> LEVELS = new IdentityHashMap<>();
+
+    // Lowest priority so we record the target other listeners settled on; cancelled changes never arrive
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onChangeTarget(LivingChangeTargetEvent event) {
+        if (!(event.getEntity() instanceof Mob mob) || mob.level().isClientSide) return;
+        LivingEntity target = event.getNewTarget();
+        LevelTargets lt = LEVELS.get(mob.level());
+        if (target == null && lt == null) return;
+        if (lt == null) {
+            lt = new LevelTargets();
+            LEVELS.put(mob.level(), lt);
+        }
+        lt.set(mob, target);
+    }
+
+    @SubscribeEvent
+    public static void onLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide) return;
+        if (event.getEntity() instanceof LivingEntity le) {
+            LevelTargets lt = LEVELS.get(event.getLevel());
+            if (lt != null) lt.remove(le);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            LEVELS.remove(level);
+        }
+    }
+
+    /**
+     * Live mobs currently targeting {@code target}, in the order they acquired it. Server thread only.
+     */
+    public static List<Mob> getAttackers(LivingEntity target) {
+        if (target == null) return Collections.emptyList();
+        LevelTargets lt = LEVELS.get(target.level());
+        if (lt == null) return Collections.emptyList();
+        Set<Mob> attackers = lt.attackersByTarget.get(target);
+        if (attackers == null) return Collections.emptyList();
+
+        List<Mob> out = new ArrayList<>(attackers.size());
+        for (Iterator<Mob> it = attackers.iterator(); it.hasNext(); ) {
+            Mob m = it.next();
+            if (m.isAlive() && m.getTarget() == target) {
+                out.add(m);
+            } else {
+                // Stale: the mob died or retargeted without us seeing it
+                it.remove();
+                if (lt.targetByAttacker.get(m) == target) lt.targetByAttacker.remove(m);
+            }
+        }
+        if (attackers.isEmpty()) lt.attackersByTarget.remove(target);
+        return out;
+    }
+}
@@ -15,8 +15,8 @@ import net.minecraftforge.fml.common.Mod;
  * By default, Minecraft drops XP when a player (or player-attributed source) kills a mob.
  * When the dragon kills directly (bite/gore), the victim may not drop XP.
  * This handler spawns a reasonable amount of XP orbs at the victim's position
- * when the killer is our dragon. Roar lightning uses a vanilla LightningBolt with
- * the owner set to the dragon's owner, so XP for Roar remains vanilla and is not doubled.
+ * when the killer is our dragon. Roar lightning deals plain lightning damage, exactly like
+ * the vanilla bolt it replaced, so XP for Roar remains vanilla and is not doubled.
  */
 @Mod.EventBusSubscriber(modid = SaintsDragons.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public class DragonXpHandler {
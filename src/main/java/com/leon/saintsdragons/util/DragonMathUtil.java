@@ -4,6 +4,7 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.joml.Quaternionf;
 import java.util.List;
@@ -271,4 +272,73 @@ public class DragonMathUtil {
         float wantedYaw = (float) (Math.atan2(target.getZ() - self.getZ(), target.getX() - self.getX()) * 180 / Math.PI) - 90f;
         return Math.abs(Mth.degreesDifference(self.getYRot(), wantedYaw));
     }
+
+    /**
+     * Slab test: does the segment start + t * delta (t in [0, 1]) touch the box?
+     * Cheaper than {@link AABB#clip} when only a yes/no is needed (no hit vector/Optional).
+     */
+    public static boolean segmentIntersectsAABB(Vec3 start, Vec3 delta, AABB box) {
+        return segmentIntersectsAABB(start, delta, box, 0.0);
+    }
+
+    /**
+     * As {@link #segmentIntersectsAABB(Vec3, Vec3, AABB)} against {@code box} grown by {@code inflate}
+     * on every side, without allocating the inflated box. Axes are unrolled into plain locals, and
+     * the slab bounds use compare-and-swap rather than Math.min/max (whose NaN/-0 handling is slower).
+     */
+    public static boolean segmentIntersectsAABB(Vec3 start, Vec3 delta, AABB box, double inflate) {
+        double tMin = 0.0;
+        double tMax = 1.0;
+
+        // X slab
+        if (Math.abs(delta.x) < 1.0e-9) {
+            // Parallel to this slab: must already be inside it
+            if (start.x < box.minX - inflate || start.x > box.maxX + inflate) return false;
+        } else {
+            double inv = 1.0 / delta.x;
+            double t1 = (box.minX - inflate - start.x) * inv;
+            double t2 = (box.maxX + inflate - start.x) * inv;
+            if (t1 > t2) {
+                double tmp = t1;
+                t1 = t2;
+                t2 = tmp;
+            }
+            if (t1 > tMin) tMin = t1;
+            if (t2 < tMax) tMax = t2;
+            if (tMin > tMax) return false;
+        }
+
+        // Y slab
+        if (Math.abs(delta.y) < 1.0e-9) {
+            if (start.y < box.minY - inflate || start.y > box.maxY + inflate) return false;
+        } else {
+            double inv = 1.0 / delta.y;
+            double t1 = (box.minY - inflate - start.y) * inv;
+            double t2 = (box.maxY + inflate - start.y) * inv;
+            if (t1 > t2) {
+                double tmp = t1;
+                t1 = t2;
+                t2 = tmp;
+            }
+            if (t1 > tMin) tMin = t1;
+            if (t2 < tMax) tMax = t2;
+            if (tMin > tMax) return false;
+        }
+
+        // Z slab
+        if (Math.abs(delta.z) < 1.0e-9) {
+            return start.z >= box.minZ - inflate && start.z <= box.maxZ + inflate;
+        }
+        double inv = 1.0 / delta.z;
+        double t1 = (box.minZ - inflate - start.z) * inv;
+        double t2 = (box.maxZ + inflate - start.z) * inv;
+        if (t1 > t2) {
+            double tmp = t1;
+            t1 = t2;
+            t2 = tmp;
+        }
+        if (t1 > tMin) tMin = t1;
+        if (t2 < tMax) tMax = t2;
+        return tMin <= tMax;
+    }
 }
@@ -0,0 +1,86 @@
+package com.leon.saintsdragons.server.entity.ability;
+
+import com.leon.saintsdragons.common.registry.AbilityRegistry;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.LivingEntity;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drives {@link DragonAbility} section tracks without a running server. The user is a stub-only
+ * Mockito mock with a seeded {@link RandomSource} and effective AI, which is all the base class
+ * reads; everything else answers defaults. Tracks then run tick by tick exactly as
+ * DragonCombatHandler drives them, so runs are deterministic for a given seed.
+ * <p>
+ * Mocking an entity class still runs its static initializers (SynchedEntityData accessors, and
+ * through them the block and entity registries), so the game is bootstrapped once on first use.
+ */
+public final class AbilityHarness {
+    private AbilityHarness() {}
+
+    static {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    // Types registered for benchmarks; AbilityRegistry is global, so register each name once per JVM
+    private static final List<DragonAbilityType<LivingEntity, ScriptedAbility>> REGISTERED = new ArrayList<>();
+
+    public static LivingEntity fakeUser(long seed) {
+        return fakeUser(LivingEntity.class, seed);
+    }
+
+    /** Stub of {@code type} (e.g. LightningDragonEntity) that abilities can be constructed and ticked on. */
+    public static <T extends LivingEntity> T fakeUser(Class<T> type, long seed) {
+        T user = Mockito.mock(type, Mockito.withSettings().stubOnly());
+        RandomSource random = RandomSource.create(seed);
+        Mockito.when(user.getRandom()).thenReturn(random);
+        Mockito.when(user.isEffectiveAi()).thenReturn(true);
+        return user;
+    }
+
+    public static DragonAbilityType<LivingEntity, ScriptedAbility> scriptedType(String name, int cooldown,
+                                                                               DragonAbilitySection... track) {
+        return new DragonAbilityType<>(name, (type, user) -> new ScriptedAbility(type, user, track, cooldown));
+    }
+
+    public static ScriptedAbility scripted(int cooldown, DragonAbilitySection... track) {
+        return scriptedType("scripted", cooldown, track).makeInstance(fakeUser(0L));
+    }
+
+    /**
+     * The first {@code count} registered scripted types (STARTUP 4, ACTIVE instant, RECOVERY 8),
+     * registering more as needed. Ids are dense, as they are for the real abilities.
+     */
+    public static synchronized List<DragonAbilityType<LivingEntity, ScriptedAbility>> registeredTypes(int count) {
+        while (REGISTERED.size() < count) {
+            REGISTERED.add(AbilityRegistry.register(scriptedType("harness_" + REGISTERED.size(), 0,
+                    duration(DragonAbilitySection.AbilitySectionType.STARTUP, 4),
+                    instant(DragonAbilitySection.AbilitySectionType.ACTIVE),
+                    duration(DragonAbilitySection.AbilitySectionType.RECOVERY, 8))));
+        }
+        return List.copyOf(REGISTERED.subList(0, count));
+    }
+
+    public static DragonAbilitySection duration(DragonAbilitySection.AbilitySectionType type, int ticks) {
+        return new DragonAbilitySection.AbilitySectionDuration(type, ticks);
+    }
+
+    public static DragonAbilitySection instant(DragonAbilitySection.AbilitySectionType type) {
+        return new DragonAbilitySection.AbilitySectionInstant(type);
+    }
+
+    /** Tick until the ability stops or {@code maxTicks} pass; returns the ticks run. */
+    public static int runToEnd(DragonAbility<?> ability, int maxTicks) {
+        int ticks = 0;
+        while (ability.isUsing() && ticks < maxTicks) {
+            ability.tick();
+            ticks++;
+        }
+        return ticks;
+    }
+}
@@ -0,0 +1,101 @@
+package com.leon.saintsdragons.server.entity.ability;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.leon.saintsdragons.server.entity.ability.AbilityHarness.duration;
+import static com.leon.saintsdragons.server.entity.ability.AbilityHarness.instant;
+import static com.leon.saintsdragons.server.entity.ability.AbilityHarness.runToEnd;
+import static com.leon.saintsdragons.server.entity.ability.AbilityHarness.scripted;
+import static com.leon.saintsdragons.server.entity.ability.DragonAbilitySection.AbilitySectionType.ACTIVE;
+import static com.leon.saintsdragons.server.entity.ability.DragonAbilitySection.AbilitySectionType.RECOVERY;
+import static com.leon.saintsdragons.server.entity.ability.DragonAbilitySection.AbilitySectionType.STARTUP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DragonAbilityTest {
+
+    @Test
+    void durationSectionsRunOneTickPastTheirDuration() {
+        ScriptedAbility ability = scripted(0, duration(STARTUP, 2), instant(ACTIVE), duration(RECOVERY, 3)).recording();
+        ability.start();
+
+        assertEquals(8, runToEnd(ability, 100));
+        assertFalse(ability.isUsing());
+        assertEquals(List.of(
+                "begin STARTUP", "tick STARTUP", "tick STARTUP", "tick STARTUP", "end STARTUP",
+                "begin ACTIVE", "tick ACTIVE", "end ACTIVE",
+                "begin RECOVERY", "tick RECOVERY", "tick RECOVERY", "tick RECOVERY", "tick RECOVERY", "end RECOVERY",
+                "done"), ability.log());
+    }
+
+    @Test
+    void timelineCuesFireBeforeTickUsingAtTheirOffset() {
+        ScriptedAbility ability = scripted(0, duration(ACTIVE, 10).cue(5, 2).cue(0, 1)).recording();
+        ability.start();
+        runToEnd(ability, 100);
+
+        List<String> log = ability.log();
+        assertEquals(2, ability.cuesFired);
+        assertEquals("cue 1 @0", log.get(1));
+        assertEquals("tick ACTIVE", log.get(2));
+        assertEquals("cue 2 @5", log.get(7));
+    }
+
+    @Test
+    void scheduledCueFiresAfterItsDelay() {
+        ScriptedAbility ability = scripted(0, duration(ACTIVE, 10).cue(0, 1)).recording()
+                .onCue(1, a -> a.schedule(3, 7));
+        ability.start();
+        runToEnd(ability, 100);
+
+        assertTrue(ability.log().contains("cue 7 @3"));
+        assertEquals(2, ability.cuesFired);
+    }
+
+    @Test
+    void cueThatChangesSectionSkipsTheRestOfTheTick() {
+        ScriptedAbility ability = scripted(0, duration(STARTUP, 10).cue(2, 1), duration(RECOVERY, 1)).recording()
+                .onCue(1, a -> a.jumpToSection(1));
+        ability.start();
+
+        assertEquals(5, runToEnd(ability, 100));
+        assertEquals(List.of(
+                "begin STARTUP", "tick STARTUP", "tick STARTUP", "cue 1 @2", "end STARTUP",
+                "begin RECOVERY", "tick RECOVERY", "tick RECOVERY", "end RECOVERY",
+                "done"), ability.log());
+    }
+
+    @Test
+    void interruptStartsCooldown() {
+        ScriptedAbility ability = scripted(5, duration(ACTIVE, 10)).stopAfter(3);
+        ability.start();
+
+        assertEquals(4, runToEnd(ability, 100));
+        assertEquals(3, ability.ticksUsing);
+        assertEquals(5, ability.getCooldownTimer());
+        assertFalse(ability.canUse());
+
+        for (int i = 0; i < 5; i++) ability.tick();
+        assertTrue(ability.canUse());
+    }
+
+    @Test
+    void restartingPooledInstanceResetsSectionsAndCues() {
+        ScriptedAbility ability = scripted(0, duration(STARTUP, 5).cue(1, 1), instant(ACTIVE));
+        ability.start();
+        ability.tick();
+        ability.tick();
+        ability.interrupt();
+        assertEquals(1, ability.cuesFired);
+
+        ability.start();
+        assertEquals(0, ability.getCurrentSectionIndex());
+        assertEquals(0, ability.getTicksInSection());
+        assertEquals(7, runToEnd(ability, 100));
+        assertEquals(2, ability.cuesFired);
+        assertEquals(3, ability.sectionsBegun);
+    }
+}
@@ -0,0 +1,101 @@
+package com.leon.saintsdragons.server.entity.ability;
+
+import net.minecraft.world.entity.LivingEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Ability with a caller-supplied section track and no game side effects. Counts what the base
+ * class drives (ticks, cues, section begin/end) and, when recording, logs each event in order so
+ * tests can assert on the exact sequence.
+ */
+public class ScriptedAbility extends DragonAbility<LivingEntity> {
+    private final Map<Integer, Consumer<ScriptedAbility>> cueActions = new HashMap<>();
+    private List<String> log;
+    private int stopAfterTicks = -1;
+
+    public int ticksUsing;
+    public int cuesFired;
+    public int sectionsBegun;
+
+    public ScriptedAbility(DragonAbilityType<LivingEntity, ScriptedAbility> type, LivingEntity user,
+                           DragonAbilitySection[] track, int cooldown) {
+        super(type, user, track, cooldown);
+    }
+
+    /** Keep an ordered event log (allocates; leave off in benchmarks). */
+    public ScriptedAbility recording() {
+        log = new ArrayList<>();
+        return this;
+    }
+
+    public List<String> log() {
+        return log;
+    }
+
+    /** Run {@code action} whenever {@code cueId} fires. */
+    public ScriptedAbility onCue(int cueId, Consumer<ScriptedAbility> action) {
+        cueActions.put(cueId, action);
+        return this;
+    }
+
+    /** Report canContinueUsing() == false once this many ticks have run in the current use. */
+    public ScriptedAbility stopAfter(int ticks) {
+        stopAfterTicks = ticks;
+        return this;
+    }
+
+    public void schedule(int delayTicks, int cueId) {
+        scheduleCue(delayTicks, cueId);
+    }
+
+    @Override
+    public void start() {
+        ticksUsing = 0;
+        super.start();
+    }
+
+    @Override
+    protected void onCue(DragonAbilitySection section, int cueId) {
+        cuesFired++;
+        if (log != null) log.add("cue " + cueId + " @" + getTicksInSection());
+        Consumer<ScriptedAbility> action = cueActions.get(cueId);
+        if (action != null) action.accept(this);
+    }
+
+    @Override
+    public void tickUsing() {
+        ticksUsing++;
+        if (log != null) log.add("tick " + section(getCurrentSection()));
+    }
+
+    @Override
+    protected void beginSection(DragonAbilitySection section) {
+        sectionsBegun++;
+        if (log != null) log.add("begin " + section(section));
+    }
+
+    @Override
+    protected void endSection(DragonAbilitySection section) {
+        if (log != null) log.add("end " + section(section));
+    }
+
+    @Override
+    protected boolean canContinueUsing() {
+        return stopAfterTicks < 0 || ticksUsing < stopAfterTicks;
+    }
+
+    @Override
+    public void end() {
+        super.end();
+        if (log != null) log.add("done");
+    }
+
+    private static String section(DragonAbilitySection section) {
+        return section != null ? section.sectionType.name() : "none";
+    }
+}